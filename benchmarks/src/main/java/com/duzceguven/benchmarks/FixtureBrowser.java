@@ -0,0 +1,66 @@
+package com.duzceguven.benchmarks;
+
+import com.duzceguven.util.FixtureServer;
+import com.duzceguven.utils.ChromeLaunchProfile;
+import com.duzceguven.utils.DriverBinaryResolver;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark state holding one headless browser with the fixture home page loaded
+ * The fixture server and browser live for a whole trial, so only the measured strategy is timed
+ */
+@State(Scope.Benchmark)
+public class FixtureBrowser {
+
+    private FixtureServer server;
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void start() {
+        server = FixtureServer.start();
+
+        DriverBinaryResolver.resolveChromeDriver();
+        driver = new ChromeDriver(ChromeLaunchProfile.HEADLESS.toOptions());
+        WaitPolicy.disableImplicitWait(driver);
+
+        loadHomePage();
+    }
+
+    /**
+     * Reloads the fixture home page and dismisses the cookie banner
+     */
+    public void loadHomePage() {
+        driver.get(server.getBaseUrl());
+        By cookieAccept = By.id("cookie-accept");
+        if (WaitPolicy.isDisplayed(driver, cookieAccept)) {
+            driver.findElement(cookieAccept).click();
+        }
+        WaitFactory.get(driver, WaitPolicy.getPresenceTimeoutSeconds())
+                .until(ExpectedConditions.invisibilityOfElementLocated(cookieAccept));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (driver != null) {
+            WaitFactory.release(driver);
+            driver.quit();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+}
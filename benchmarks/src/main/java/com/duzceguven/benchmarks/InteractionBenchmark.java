@@ -0,0 +1,104 @@
+package com.duzceguven.benchmarks;
+
+import com.duzceguven.pages.DuzceGuvenHomePage;
+import com.duzceguven.util.DatePickerUtil;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways the tests select a location and a journey date on the home page:
+ * the page object's single-script Select2 selection against clicking through the Select2 widget
+ * command by command, and the page object's calendar navigation against DatePickerUtil's single async script.
+ * The form is reset before every invocation, outside the measured call, so each call starts from an empty
+ * form with closed widgets instead of measuring an already-selected page. Per-invocation setup is fine here
+ * because every measured call takes milliseconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class InteractionBenchmark {
+
+    private static final String LOCATION = "Ankara";
+    private static final int DAY = 20;
+
+    private static final By DEPARTURE_SELECTION = By.id("select2-departure-container");
+    private static final By DEPARTURE_OPTION = By.xpath(
+            "//ul[@id='select2-departure-results']/li[normalize-space()='" + LOCATION + "']");
+
+    /**
+     * Clears both Select2 selects and the date field, and closes any open dropdown or calendar
+     */
+    private static final String RESET_FORM_SCRIPT =
+        "['departure', 'arrival'].forEach(function(id) {" +
+        "  var select = document.getElementById(id);" +
+        "  if (select) {" +
+        "    select.value = '';" +
+        "    select.dispatchEvent(new Event('change', { bubbles: true }));" +
+        "  }" +
+        "});" +
+        "var dateField = document.querySelector('input.datepicker');" +
+        "if (dateField) { dateField.value = ''; }" +
+        "if (document.activeElement) { document.activeElement.blur(); }" +
+        "document.body.click();";
+
+    private DuzceGuvenHomePage homePage;
+    private LocalDate nextMonth;
+
+    @Setup(Level.Iteration)
+    public void reloadPage(FixtureBrowser browser) {
+        browser.loadHomePage();
+        homePage = new DuzceGuvenHomePage(browser.getDriver());
+        nextMonth = LocalDate.now().plusMonths(1);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetForm(FixtureBrowser browser) {
+        ((JavascriptExecutor) browser.getDriver()).executeScript(RESET_FORM_SCRIPT);
+    }
+
+    @Benchmark
+    public DuzceGuvenHomePage selectLocationWithPageObject() {
+        return homePage.selectDepartureLocation(LOCATION);
+    }
+
+    @Benchmark
+    public String selectLocationThroughWidget(FixtureBrowser browser) {
+        WebDriver driver = browser.getDriver();
+        driver.findElement(DEPARTURE_SELECTION).click();
+        WaitFactory.get(driver, WaitPolicy.getPresenceTimeoutSeconds())
+                .until(ExpectedConditions.elementToBeClickable(DEPARTURE_OPTION))
+                .click();
+        return driver.findElement(DEPARTURE_SELECTION).getText();
+    }
+
+    @Benchmark
+    public DuzceGuvenHomePage selectDateWithPageObject() {
+        return homePage.selectDate(DAY, nextMonth.getMonthValue(), nextMonth.getYear());
+    }
+
+    @Benchmark
+    public boolean selectDateWithDatePickerUtil(FixtureBrowser browser) {
+        return DatePickerUtil.selectDate(browser.getDriver(), DAY);
+    }
+}
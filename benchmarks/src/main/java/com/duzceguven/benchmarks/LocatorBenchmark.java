@@ -0,0 +1,79 @@
+package com.duzceguven.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the locator strategies used across the project for finding the visible search form controls
+ * (the Select2 selection of the departure select and the date field): XPath locators as in locators.properties,
+ * CSS and By.id locators as in LoginPage, and the querySelectorAll scans done in JavaScript by the journey tests
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LocatorBenchmark {
+
+    private static final By DEPARTURE_XPATH = By.xpath("//span[@id='select2-departure-container']");
+    private static final By DEPARTURE_CSS = By.cssSelector("#select2-departure-container");
+    private static final By DATE_FIELD_XPATH = By.xpath("//input[contains(@class, 'datepicker')]");
+    private static final By DATE_FIELD_CSS = By.cssSelector("input.datepicker");
+    private static final By DATE_FIELD_ID = By.id("journey-date");
+    private static final By OPTION_ITEMS_XPATH = By.xpath("//li[contains(@class, 'select2-results__option')]");
+
+    private static final String FIND_DEPARTURE_SCRIPT =
+        "var selections = document.querySelectorAll('span.select2-selection__rendered');" +
+        "for (var i = 0; i < selections.length; i++) {" +
+        "  if (selections[i].id === 'select2-departure-container') {" +
+        "    return selections[i];" +
+        "  }" +
+        "}" +
+        "return null;";
+
+    @Benchmark
+    public WebElement xpathById(FixtureBrowser browser) {
+        return browser.getDriver().findElement(DEPARTURE_XPATH);
+    }
+
+    @Benchmark
+    public WebElement cssById(FixtureBrowser browser) {
+        return browser.getDriver().findElement(DEPARTURE_CSS);
+    }
+
+    @Benchmark
+    public WebElement xpathByClass(FixtureBrowser browser) {
+        return browser.getDriver().findElement(DATE_FIELD_XPATH);
+    }
+
+    @Benchmark
+    public WebElement cssByClass(FixtureBrowser browser) {
+        return browser.getDriver().findElement(DATE_FIELD_CSS);
+    }
+
+    @Benchmark
+    public WebElement byId(FixtureBrowser browser) {
+        return browser.getDriver().findElement(DATE_FIELD_ID);
+    }
+
+    @Benchmark
+    public Object javaScriptScan(FixtureBrowser browser) {
+        return ((JavascriptExecutor) browser.getDriver()).executeScript(FIND_DEPARTURE_SCRIPT);
+    }
+
+    @Benchmark
+    public List<WebElement> xpathFindElements(FixtureBrowser browser) {
+        return browser.getDriver().findElements(OPTION_ITEMS_XPATH);
+    }
+}
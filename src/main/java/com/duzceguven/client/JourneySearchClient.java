@@ -0,0 +1,171 @@
+package com.duzceguven.client;
+
+import com.duzceguven.model.Journey;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Searches journeys over HTTP, without a browser
+ * Targets the /api/sefer-ara contract of the local fixture site (kalkis, varis and tarih query parameters,
+ * a JSON list of journeys in the response) and maps the response to {@link Journey} objects.
+ * This contract is not verified against the live site, whose search endpoint may differ,
+ * so use the client with a fixture base URL. One client can be shared by many threads.
+ */
+public class JourneySearchClient {
+
+    private static final String SEARCH_PATH = "/api/sefer-ara";
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("http.timeout.seconds", 10));
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Json json = new Json();
+
+    /**
+     * Creates a client for a site serving the fixture search contract
+     * There is no default base URL, because the live site is not known to serve this contract.
+     *
+     * @param baseUrl Base URL of the site, e.g. the fixture server's
+     */
+    public JourneySearchClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Searches journeys between two locations on a date
+     *
+     * @param departureLocation Departure location
+     * @param arrivalLocation Arrival location
+     * @param day Day of the month
+     * @param month Month (1-12)
+     * @param year Year
+     * @return Journeys found, empty if there are none
+     * @throws IllegalStateException if the site does not answer with 200 OK or the response does not follow the contract
+     */
+    public List<Journey> searchJourney(String departureLocation, String arrivalLocation, int day, int month, int year) {
+        String query = "kalkis=" + encode(departureLocation.toUpperCase(TURKISH))
+                + "&varis=" + encode(arrivalLocation.toUpperCase(TURKISH))
+                + "&tarih=" + encode(String.format("%02d/%02d/%04d", day, month, year));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + SEARCH_PATH + "?" + query))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Journey search " + request.uri() + " returned HTTP " + response.statusCode());
+        }
+        return parseJourneys(response.body());
+    }
+
+    /**
+     * Checks if any journey is available between two locations on a date
+     *
+     * @param departureLocation Departure location
+     * @param arrivalLocation Arrival location
+     * @param day Day of the month
+     * @param month Month (1-12)
+     * @param year Year
+     * @return true if the search returns at least one journey
+     * @throws IllegalStateException if the site does not answer with 200 OK or the response does not follow the contract
+     */
+    public boolean hasJourneys(String departureLocation, String arrivalLocation, int day, int month, int year) {
+        return !searchJourney(departureLocation, arrivalLocation, day, month, year).isEmpty();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journey search " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Journey search " + request.uri() + " was interrupted", e);
+        }
+    }
+
+    private List<Journey> parseJourneys(String body) {
+        Map<String, Object> response = json.toType(body, Json.MAP_TYPE);
+        Object rows = response.get("seferler");
+        if (!(rows instanceof List)) {
+            throw new IllegalStateException("Journey search response has no 'seferler' list: " + body);
+        }
+
+        List<Journey> journeys = new ArrayList<>();
+        for (Object row : (List<?>) rows) {
+            if (!(row instanceof Map)) {
+                throw new IllegalStateException("Journey row is not an object: " + row);
+            }
+            Map<?, ?> journey = (Map<?, ?>) row;
+            journeys.add(new Journey(
+                    getText(journey, "id"),
+                    getText(journey, "kalkis"),
+                    getText(journey, "varis"),
+                    getTime(journey, "kalkisSaati"),
+                    getTime(journey, "varisSaati"),
+                    getText(journey, "firma"),
+                    getNumber(journey, "bosKoltuk").intValue(),
+                    getPrice(journey, "fiyat")));
+        }
+        return Collections.unmodifiableList(journeys);
+    }
+
+    private static String getText(Map<?, ?> journey, String field) {
+        Object value = journey.get(field);
+        if (value == null) {
+            throw new IllegalStateException("Journey row has no '" + field + "': " + journey);
+        }
+        return String.valueOf(value);
+    }
+
+    private static LocalTime getTime(Map<?, ?> journey, String field) {
+        try {
+            return LocalTime.parse(getText(journey, field));
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("Journey row has an invalid '" + field + "': " + journey, e);
+        }
+    }
+
+    private static BigDecimal getPrice(Map<?, ?> journey, String field) {
+        try {
+            return new BigDecimal(getText(journey, field));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Journey row has an invalid '" + field + "': " + journey, e);
+        }
+    }
+
+    private static Number getNumber(Map<?, ?> journey, String field) {
+        Object value = journey.get(field);
+        if (!(value instanceof Number)) {
+            throw new IllegalStateException("Journey row has no numeric '" + field + "': " + journey);
+        }
+        return (Number) value;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
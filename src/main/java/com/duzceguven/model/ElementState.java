@@ -0,0 +1,73 @@
+package com.duzceguven.model;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * State of one element as read by a batched state query
+ */
+public final class ElementState {
+
+    private final boolean present;
+    private final boolean displayed;
+    private final boolean selected;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    public ElementState(boolean present, boolean displayed, boolean selected, String text, Map<String, String> attributes) {
+        this.present = present;
+        this.displayed = displayed;
+        this.selected = selected;
+        this.text = text;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * Checks if the element is a selected option or a checked checkbox or radio button
+     *
+     * @return true if the element is selected
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * Gets the visible text of the element
+     *
+     * @return Trimmed text, empty if the element is missing
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets an attribute that was requested in the query
+     *
+     * @param name Attribute name
+     * @return Attribute value, or null if the element does not have it
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return "missing";
+        }
+        return (displayed ? "visible" : "hidden") + (selected ? ", selected" : "")
+                + ", text '" + text + "'" + (attributes.isEmpty() ? "" : ", " + attributes);
+    }
+}
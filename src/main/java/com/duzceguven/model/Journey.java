@@ -0,0 +1,94 @@
+package com.duzceguven.model;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * One journey of a search result
+ */
+public final class Journey {
+
+    private final String id;
+    private final String departure;
+    private final String arrival;
+    private final LocalTime departureTime;
+    private final LocalTime arrivalTime;
+    private final String operator;
+    private final int availableSeats;
+    private final BigDecimal price;
+
+    public Journey(String id, String departure, String arrival, LocalTime departureTime, LocalTime arrivalTime,
+                   String operator, int availableSeats, BigDecimal price) {
+        this.id = id;
+        this.departure = departure;
+        this.arrival = arrival;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+        this.operator = operator;
+        this.availableSeats = availableSeats;
+        this.price = price;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDeparture() {
+        return departure;
+    }
+
+    public String getArrival() {
+        return arrival;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    public int getAvailableSeats() {
+        return availableSeats;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Journey)) {
+            return false;
+        }
+        Journey journey = (Journey) o;
+        return availableSeats == journey.availableSeats
+                && Objects.equals(id, journey.id)
+                && Objects.equals(departure, journey.departure)
+                && Objects.equals(arrival, journey.arrival)
+                && Objects.equals(departureTime, journey.departureTime)
+                && Objects.equals(arrivalTime, journey.arrivalTime)
+                && Objects.equals(operator, journey.operator)
+                && Objects.equals(price, journey.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, departure, arrival, departureTime, arrivalTime, operator, availableSeats, price);
+    }
+
+    @Override
+    public String toString() {
+        return departure + " " + departureTime + " -> " + arrival + " " + arrivalTime
+                + ", " + operator + ", " + availableSeats + " seats, " + price + " TL";
+    }
+}
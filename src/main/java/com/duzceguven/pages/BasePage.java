@@ -1,23 +1,64 @@
 package com.duzceguven.pages;
 
+import com.duzceguven.model.ElementState;
+import com.duzceguven.utils.DriverManager;
+import com.duzceguven.utils.LatencyRecorder;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import com.duzceguven.utils.WebDriverUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Base page class that all page objects will extend
  */
 public class BasePage {
     
+    public static final String BASE_URL_PROPERTY = "duzceguven.baseUrl";
+    public static final String DEFAULT_BASE_URL = "https://www.duzceguven.com.tr";
+    
     protected WebDriver driver;
     
+    /**
+     * Creates the page object for the WebDriver bound to the current thread
+     */
+    public BasePage() {
+        this(DriverManager.getDriver());
+    }
+    
     public BasePage(WebDriver driver) {
         this.driver = driver;
         PageFactory.initElements(driver, this);
     }
     
+    /**
+     * Runs a page action and records its latency under the page class and action name
+     * 
+     * @param action Name of the page action
+     * @param body Page action to run
+     * @param <T> Result type of the action
+     * @return Result of the action
+     */
+    protected <T> T timed(String action, Supplier<T> body) {
+        return LatencyRecorder.time("page " + getClass().getSimpleName() + "." + action, body);
+    }
+    
+    /**
+     * Gets the base URL of the site under test, set with the {@code duzceguven.baseUrl} system property
+     * 
+     * @return Base URL without a trailing slash, the live site if none is set
+     */
+    public static String getBaseUrl() {
+        String baseUrl = System.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL);
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+    
     /**
      * Navigates to a specific URL
      * 
@@ -27,13 +68,41 @@ public class BasePage {
         driver.get(url);
     }
     
+    /**
+     * Gets the cached wait of the driver with the presence timeout of the wait policy
+     * 
+     * @return WebDriverWait instance
+     */
+    protected WebDriverWait getWait() {
+        return getWait(WaitPolicy.getPresenceTimeoutSeconds());
+    }
+    
+    /**
+     * Gets the cached wait of the driver with the given timeout
+     * 
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return WebDriverWait instance
+     */
+    protected WebDriverWait getWait(int timeoutInSeconds) {
+        return WaitFactory.get(driver, timeoutInSeconds);
+    }
+    
+    /**
+     * Waits until the browser has no request in flight, e.g. after an action that loads data
+     * 
+     * @return true if the network became idle within the presence timeout, false otherwise
+     */
+    protected boolean waitForNetworkIdle() {
+        return WebDriverUtils.waitForNetworkIdle(driver, WaitPolicy.getPresenceTimeoutSeconds());
+    }
+    
     /**
      * Waits for an element to be visible and then clicks it
      * 
      * @param locator By locator for the element
      */
     protected void clickElement(By locator) {
-        WebElement element = WebDriverUtils.waitForElementClickable(driver, locator, 10);
+        WebElement element = WebDriverUtils.waitForElementClickable(driver, locator, WaitPolicy.getPresenceTimeoutSeconds());
         element.click();
     }
     
@@ -44,7 +113,7 @@ public class BasePage {
      * @param text Text to enter
      */
     protected void enterText(By locator, String text) {
-        WebElement element = WebDriverUtils.waitForElementVisible(driver, locator, 10);
+        WebElement element = WebDriverUtils.waitForElementVisible(driver, locator, WaitPolicy.getPresenceTimeoutSeconds());
         element.clear();
         element.sendKeys(text);
     }
@@ -56,21 +125,38 @@ public class BasePage {
      * @return Text content of the element
      */
     protected String getText(By locator) {
-        WebElement element = WebDriverUtils.waitForElementVisible(driver, locator, 10);
+        WebElement element = WebDriverUtils.waitForElementVisible(driver, locator, WaitPolicy.getPresenceTimeoutSeconds());
         return element.getText();
     }
     
     /**
-     * Checks if an element is displayed
+     * Reads the state of several elements in one script call, without waiting for them
+     * 
+     * @param locators Locators of the elements by a key of the caller's choice
+     * @param attributes Names of the attributes to read
+     * @return Presence, visibility, selection, text and attributes of each element by the same keys
+     */
+    protected Map<String, ElementState> queryElementStates(Map<String, By> locators, String... attributes) {
+        return WebDriverUtils.queryElementStates(driver, locators, attributes);
+    }
+    
+    /**
+     * Checks if an element is displayed, waiting at most the absence timeout of the wait policy
      * 
      * @param locator By locator for the element
      * @return true if the element is displayed, false otherwise
      */
     protected boolean isElementDisplayed(By locator) {
-        try {
-            return WebDriverUtils.waitForElementVisible(driver, locator, 5).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return WaitPolicy.isDisplayed(driver, locator);
+    }
+    
+    /**
+     * Checks if an element is missing or hidden, waiting at most the absence timeout of the wait policy
+     * 
+     * @param locator By locator for the element
+     * @return true if the element is absent or invisible, false otherwise
+     */
+    protected boolean isElementAbsent(By locator) {
+        return WaitPolicy.isAbsent(driver, locator);
     }
 }
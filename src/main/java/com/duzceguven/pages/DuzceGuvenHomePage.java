@@ -1,22 +1,41 @@
 package com.duzceguven.pages;
+
+import com.duzceguven.model.ElementState;
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitPolicy;
+import com.duzceguven.utils.WebDriverUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Page object for the Düzce Güven homepage
  */
 public class DuzceGuvenHomePage extends BasePage {
     
-    private final By departureDropdown = By.xpath("
-    private final By arrivalDropdown = By.xpath("
-    private final By dateField = By.xpath("
-    private final By searchButton = By.xpath("
+    private final By dateField = Locators.get("home.dateField");
+    private final By searchButton = Locators.get("home.searchButton");
+    
+    private final By cookieAcceptButton = Locators.get("home.cookieAccept");
+    
+    private final By calendarHeader = Locators.get("home.calendarHeader");
+    
+    private static final String CALENDAR_DAYS_SELECTOR = ".datepicker-days";
     
-    private final By cookieAcceptButton = By.xpath("
+    private static final String DEPARTURE_SELECT_ID = "departure";
+    private static final String ARRIVAL_SELECT_ID = "arrival";
+    
+    private static final int MAX_CALENDAR_NAVIGATION_ATTEMPTS = 3;
+    
+    public DuzceGuvenHomePage() {
+        super();
+    }
     
     public DuzceGuvenHomePage(WebDriver driver) {
         super(driver);
@@ -28,32 +47,34 @@ public class DuzceGuvenHomePage extends BasePage {
      * @return DuzceGuvenHomePage instance
      */
     public DuzceGuvenHomePage goToHomePage() {
-        navigateTo("https:
-        handlePopups();
-        return this;
+        return timed("goToHomePage", () -> {
+            navigateTo(getBaseUrl());
+            handlePopups();
+            return this;
+        });
     }
     
     /**
      * Handles any popups that appear on the page
+     * The cookie banner is checked once without waiting, so pages without it are not delayed.
      * 
      * @return DuzceGuvenHomePage instance
      */
     public DuzceGuvenHomePage handlePopups() {
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        return timed("handlePopups", () -> {
+            WebDriverUtils.waitForCondition(driver, PageConditions.documentReady(), WaitPolicy.getPresenceTimeoutSeconds());
         
-        try {
-            if (driver.findElements(cookieAcceptButton).size() > 0) {
-                clickElement(cookieAcceptButton);
+            try {
+                ElementState banner = queryElementStates(Collections.singletonMap("cookieAccept", cookieAcceptButton)).get("cookieAccept");
+                if (banner.isDisplayed()) {
+                    clickElement(cookieAcceptButton);
+                }
+            } catch (Exception e) {
+                System.out.println("Cookie popup not found or could not be closed: " + e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("Cookie popup not found or could not be closed: " + e.getMessage());
-        }
         
-        return this;
+            return this;
+        });
     }
     
     /**
@@ -63,23 +84,12 @@ public class DuzceGuvenHomePage extends BasePage {
      * @return DuzceGuvenHomePage instance
      */
     public DuzceGuvenHomePage selectDepartureLocation(String location) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.elementToBeClickable(departureDropdown));
-        
-        clickElement(departureDropdown);
-        
-        driver.findElement(departureDropdown).clear();
-        driver.findElement(departureDropdown).sendKeys(location);
-        
-        try {
-            Thread.sleep(1000);
-            wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("
-            clickElement(By.xpath("
-        } catch (Exception e) {
-            System.out.println("Could not select departure location: " + e.getMessage());
-        }
-        
-        return this;
+        return timed("selectDepartureLocation", () -> {
+            if (!new Select2Dropdown(driver, DEPARTURE_SELECT_ID).select(location)) {
+                System.out.println("Could not select departure location: " + location);
+            }
+            return this;
+        });
     }
     
     /**
@@ -87,16 +97,15 @@ public class DuzceGuvenHomePage extends BasePage {
      * 
      * @param location Arrival location to select
      * @return DuzceGuvenHomePage instance
+     * @throws IllegalStateException if the location could not be selected
      */
     public DuzceGuvenHomePage selectArrivalLocation(String location) {
-        clickElement(arrivalDropdown);
-        
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("
-        
-        clickElement(By.xpath("
-        
-        return this;
+        return timed("selectArrivalLocation", () -> {
+            if (!new Select2Dropdown(driver, ARRIVAL_SELECT_ID).select(location)) {
+                throw new IllegalStateException("Could not select arrival location: " + location);
+            }
+            return this;
+        });
     }
     
     /**
@@ -108,39 +117,106 @@ public class DuzceGuvenHomePage extends BasePage {
      * @return DuzceGuvenHomePage instance
      */
     public DuzceGuvenHomePage selectDate(int day, int month, int year) {
-        clickElement(dateField);
-        
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("
+        return timed("selectDate", () -> {
+            if (setDateWithDatepickerApi(day, month, year)) {
+                return this;
+            }
         
-        String currentMonthYear = driver.findElement(By.xpath("
+            clickElement(dateField);
         
-        while (!currentMonthYear.contains(String.valueOf(year))) {
-            if (year > Integer.parseInt(currentMonthYear.split(" ")[1])) {
-                clickElement(By.xpath("
-            } else {
-                clickElement(By.xpath("
+            if (!WebDriverUtils.waitForSelectorVisible(driver, CALENDAR_DAYS_SELECTOR, WaitPolicy.getPresenceTimeoutSeconds())) {
+                throw new TimeoutException("Calendar did not open");
             }
-            currentMonthYear = driver.findElement(By.xpath("
-        }
         
-        String targetMonth = getMonthName(month);
-        while (!currentMonthYear.contains(targetMonth)) {
-            if (currentMonthYear.contains(String.valueOf(year))) {
-                if (month > getMonthNumber(currentMonthYear.split(" ")[0])) {
-                    clickElement(By.xpath("
-                } else {
-                    clickElement(By.xpath("
+            String currentMonthYear = driver.findElement(calendarHeader).getText();
+        
+            for (int attempt = 0; !isShowingMonth(currentMonthYear, month, year); attempt++) {
+                if (attempt >= MAX_CALENDAR_NAVIGATION_ATTEMPTS) {
+                    throw new IllegalStateException("Calendar did not reach " + getMonthName(month) + " " + year
+                            + ", still showing '" + currentMonthYear + "'");
                 }
-                currentMonthYear = driver.findElement(By.xpath("
+                currentMonthYear = moveCalendar(getMonthDelta(currentMonthYear, month, year));
             }
-        }
         
-        clickElement(By.xpath(String.format("
+            clickElement(Locators.format("home.calendarDay", day));
         
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(By.xpath("
+            if (!WebDriverUtils.waitForSelectorAbsent(driver, CALENDAR_DAYS_SELECTOR, WaitPolicy.getPresenceTimeoutSeconds())) {
+                throw new TimeoutException("Calendar did not close after selecting day " + day);
+            }
         
-        return this;
+            return this;
+        });
+    }
+    
+    /**
+     * Sets the journey date through the bootstrap datepicker API when the page exposes it
+     * 
+     * @param day Day of the month to select
+     * @param month Month to select (1-12)
+     * @param year Year to select
+     * @return true if the datepicker accepted the date, false if the calendar has to be navigated
+     */
+    private boolean setDateWithDatepickerApi(int day, int month, int year) {
+        Object result = ((JavascriptExecutor) driver).executeScript(
+            "var $ = window.jQuery;" +
+            "if (!$ || !$.fn || !$.fn.datepicker) { return false; }" +
+            "var input = $('input.datepicker').filter(function() { return !!$(this).data('datepicker'); }).first();" +
+            "if (input.length === 0) { return false; }" +
+            "var target = new Date(arguments[2], arguments[1] - 1, arguments[0]);" +
+            "input.datepicker('setDate', target);" +
+            "input.datepicker('hide');" +
+            "var selected = input.datepicker('getDate');" +
+            "return !!selected && selected.getFullYear() === target.getFullYear() &&" +
+            "  selected.getMonth() === target.getMonth() && selected.getDate() === target.getDate();",
+            day, month, year);
+        return Boolean.TRUE.equals(result);
+    }
+    
+    /**
+     * Moves the open calendar by the given number of months in a single script call
+     * 
+     * @param monthDelta Number of months to move, negative to go back
+     * @return Calendar header text after moving
+     */
+    private String moveCalendar(int monthDelta) {
+        return (String) ((JavascriptExecutor) driver).executeScript(
+            "var steps = Math.abs(arguments[0]);" +
+            "var button = arguments[0] > 0 ? '.datepicker-days th.next' : '.datepicker-days th.prev';" +
+            "for (var i = 0; i < steps; i++) {" +
+            "  var element = document.querySelector(button);" +
+            "  if (!element) { break; }" +
+            "  element.click();" +
+            "}" +
+            "var header = document.querySelector('.datepicker-days th.datepicker-switch');" +
+            "return header ? header.textContent.trim() : '';",
+            monthDelta);
+    }
+    
+    /**
+     * Checks if the calendar header shows the given month and year
+     * 
+     * @param monthYear Calendar header text, e.g. "Mart 2025"
+     * @param month Month (1-12)
+     * @param year Year
+     * @return true if the header matches
+     */
+    private boolean isShowingMonth(String monthYear, int month, int year) {
+        return monthYear.contains(getMonthName(month)) && monthYear.contains(String.valueOf(year));
+    }
+    
+    /**
+     * Computes how many months the calendar has to move from the month in its header
+     * 
+     * @param monthYear Calendar header text, e.g. "Mart 2025"
+     * @param month Target month (1-12)
+     * @param year Target year
+     * @return Number of months to move, negative to go back
+     */
+    private int getMonthDelta(String monthYear, int month, int year) {
+        String[] parts = monthYear.trim().split("\\s+");
+        int currentMonth = getMonthNumber(parts[0]);
+        int currentYear = Integer.parseInt(parts[1]);
+        return (year - currentYear) * 12 + (month - currentMonth);
     }
     
     /**
@@ -149,18 +225,43 @@ public class DuzceGuvenHomePage extends BasePage {
      * @return DuzceGuvenHomePage instance
      */
     public DuzceGuvenHomePage clickSearchButton() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        wait.until(ExpectedConditions.elementToBeClickable(searchButton));
-        
-        clickElement(searchButton);
+        return timed("clickSearchButton", () -> {
+            clickElement(searchButton);
+            waitForNetworkIdle();
         
-        try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("
-        } catch (Exception e) {
-            System.out.println("Search results element not found with expected class. Continuing anyway.");
-        }
+            if (!WebDriverUtils.waitForSelectorVisible(driver, PageConditions.SEARCH_RESULTS_SELECTOR, WaitPolicy.getPresenceTimeoutSeconds())) {
+                System.out.println("Search results element not found with expected class. Continuing anyway.");
+            }
         
-        return this;
+            return this;
+        });
+    }
+    
+    /**
+     * Gets the search results shown after a search
+     * 
+     * @return SearchResultsPage once the results are loaded
+     */
+    public SearchResultsPage getSearchResults() {
+        return new SearchResultsPage(driver).waitForResults();
+    }
+    
+    /**
+     * Reads the filled-in search form in one script call
+     * The "departure" and "arrival" states carry the text Select2 shows, "date" the value of the date field
+     * and "searchButton" whether the button is shown and its disabled attribute.
+     * 
+     * @return States of the departure, arrival, date and search button elements
+     */
+    public Map<String, ElementState> getSearchFormState() {
+        return timed("getSearchFormState", () -> {
+            Map<String, By> locators = new LinkedHashMap<>();
+            locators.put("departure", Locators.format("home.select2Selection", DEPARTURE_SELECT_ID));
+            locators.put("arrival", Locators.format("home.select2Selection", ARRIVAL_SELECT_ID));
+            locators.put("date", dateField);
+            locators.put("searchButton", searchButton);
+            return queryElementStates(locators, "value", "disabled");
+        });
     }
     
     /**
@@ -174,11 +275,13 @@ public class DuzceGuvenHomePage extends BasePage {
      * @return DuzceGuvenHomePage instance
      */
     public DuzceGuvenHomePage searchJourney(String departureLocation, String arrivalLocation, int day, int month, int year) {
-        selectDepartureLocation(departureLocation);
-        selectArrivalLocation(arrivalLocation);
-        selectDate(day, month, year);
-        clickSearchButton();
-        return this;
+        return timed("searchJourney", () -> {
+            selectDepartureLocation(departureLocation);
+            selectArrivalLocation(arrivalLocation);
+            selectDate(day, month, year);
+            clickSearchButton();
+            return this;
+        });
     }
     
     /**
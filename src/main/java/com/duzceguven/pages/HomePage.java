@@ -1,5 +1,6 @@
 package com.duzceguven.pages;
 
+import com.duzceguven.utils.Locators;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
@@ -8,10 +9,14 @@ import org.openqa.selenium.WebDriver;
  */
 public class HomePage extends BasePage {
     
-    private final By searchBox = By.id("searchBox");
-    private final By searchButton = By.id("searchButton");
-    private final By loginLink = By.linkText("Giriş");
-    private final By welcomeMessage = By.className("welcome-message");
+    private final By searchBox = Locators.get("homePage.searchBox");
+    private final By searchButton = Locators.get("homePage.searchButton");
+    private final By loginLink = Locators.get("homePage.loginLink");
+    private final By welcomeMessage = Locators.get("homePage.welcomeMessage");
+    
+    public HomePage() {
+        super();
+    }
     
     public HomePage(WebDriver driver) {
         super(driver);
@@ -75,7 +80,7 @@ public class HomePage extends BasePage {
      * @return HomePage instance
      */
     public HomePage clickMenuItem(String menuText) {
-        clickElement(By.xpath("
+        clickElement(Locators.format("homePage.menuItem", menuText));
         return this;
     }
 }
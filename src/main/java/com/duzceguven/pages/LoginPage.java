@@ -1,5 +1,6 @@
 package com.duzceguven.pages;
 
+import com.duzceguven.utils.Locators;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
@@ -8,10 +9,14 @@ import org.openqa.selenium.WebDriver;
  */
 public class LoginPage extends BasePage {
     
-    private final By usernameField = By.id("username");
-    private final By passwordField = By.id("password");
-    private final By loginButton = By.id("loginButton");
-    private final By errorMessage = By.className("error-message");
+    private final By usernameField = Locators.get("login.username");
+    private final By passwordField = Locators.get("login.password");
+    private final By loginButton = Locators.get("login.loginButton");
+    private final By errorMessage = Locators.get("login.errorMessage");
+    
+    public LoginPage() {
+        super();
+    }
     
     public LoginPage(WebDriver driver) {
         super(driver);
@@ -24,8 +29,10 @@ public class LoginPage extends BasePage {
      * @return LoginPage instance
      */
     public LoginPage goToLoginPage(String baseUrl) {
-        navigateTo(baseUrl + "/login");
-        return this;
+        return timed("goToLoginPage", () -> {
+            navigateTo(baseUrl + "/login");
+            return this;
+        });
     }
     
     /**
@@ -35,8 +42,10 @@ public class LoginPage extends BasePage {
      * @return LoginPage instance
      */
     public LoginPage enterUsername(String username) {
-        enterText(usernameField, username);
-        return this;
+        return timed("enterUsername", () -> {
+            enterText(usernameField, username);
+            return this;
+        });
     }
     
     /**
@@ -46,8 +55,10 @@ public class LoginPage extends BasePage {
      * @return LoginPage instance
      */
     public LoginPage enterPassword(String password) {
-        enterText(passwordField, password);
-        return this;
+        return timed("enterPassword", () -> {
+            enterText(passwordField, password);
+            return this;
+        });
     }
     
     /**
@@ -56,8 +67,10 @@ public class LoginPage extends BasePage {
      * @return LoginPage instance
      */
     public LoginPage clickLoginButton() {
-        clickElement(loginButton);
-        return this;
+        return timed("clickLoginButton", () -> {
+            clickElement(loginButton);
+            return this;
+        });
     }
     
     /**
@@ -68,10 +81,12 @@ public class LoginPage extends BasePage {
      * @return LoginPage instance
      */
     public LoginPage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
-        return this;
+        return timed("login", () -> {
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
+            return this;
+        });
     }
     
     /**
@@ -80,7 +95,7 @@ public class LoginPage extends BasePage {
      * @return Error message text
      */
     public String getErrorMessage() {
-        return getText(errorMessage);
+        return timed("getErrorMessage", () -> getText(errorMessage));
     }
     
     /**
@@ -89,6 +104,6 @@ public class LoginPage extends BasePage {
      * @return true if the error message is displayed, false otherwise
      */
     public boolean isErrorMessageDisplayed() {
-        return isElementDisplayed(errorMessage);
+        return timed("isErrorMessageDisplayed", () -> isElementDisplayed(errorMessage));
     }
 }
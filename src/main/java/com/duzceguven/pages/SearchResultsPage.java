@@ -0,0 +1,242 @@
+package com.duzceguven.pages;
+
+import com.duzceguven.model.Journey;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitPolicy;
+import com.duzceguven.utils.WebDriverUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Page object for the journey search results
+ * Rows are read in the browser with a single script call per page of rows and returned as JSON,
+ * so no element is looked up per row. The row selectors follow the markup of the fixture site
+ * and are not confirmed on the live site.
+ */
+public class SearchResultsPage extends BasePage {
+
+    private static final String ROW_SELECTOR = ".search-results .journey-row";
+    private static final String NO_RESULTS_SELECTOR = ".search-results .no-results";
+
+    /**
+     * Reads rows [offset, offset + limit) of the results.
+     * Arguments: row selector, offset, limit.
+     * Returns a JSON string {total, rows: [{id, departureTime, arrivalTime, route, operator, seats, price}]}.
+     */
+    private static final String READ_ROWS_SCRIPT =
+        "var all = document.querySelectorAll(arguments[0]);" +
+        "var end = Math.min(all.length, arguments[1] + arguments[2]);" +
+        "var text = function(row, selector) {" +
+        "  var cell = row.querySelector(selector);" +
+        "  return cell ? cell.textContent.trim() : '';" +
+        "};" +
+        "var rows = [];" +
+        "for (var i = arguments[1]; i < end; i++) {" +
+        "  var row = all[i];" +
+        "  rows.push({" +
+        "    id: row.getAttribute('data-journey-id') || ''," +
+        "    departureTime: text(row, '.departure-time')," +
+        "    arrivalTime: text(row, '.arrival-time')," +
+        "    route: text(row, '.route')," +
+        "    operator: text(row, '.operator')," +
+        "    seats: text(row, '.seats')," +
+        "    price: text(row, '.price')" +
+        "  });" +
+        "}" +
+        "return JSON.stringify({total: all.length, rows: rows});";
+
+    private static final String NO_RESULTS_SCRIPT =
+        "return document.querySelector(arguments[0]) !== null;";
+
+    private static final Pattern FIRST_NUMBER = Pattern.compile("\\d+");
+    private static final Pattern DOT_THOUSANDS = Pattern.compile("\\d{1,3}(\\.\\d{3})+");
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2})[:.](\\d{2})");
+
+    private final Json json = new Json();
+
+    public SearchResultsPage() {
+        super();
+    }
+
+    public SearchResultsPage(WebDriver driver) {
+        super(driver);
+    }
+
+    /**
+     * Waits until the results list shows journeys or the empty-result message
+     *
+     * @return SearchResultsPage instance
+     */
+    public SearchResultsPage waitForResults() {
+        return timed("waitForResults", () -> {
+            WebDriverUtils.waitForSelectorVisible(driver, PageConditions.SEARCH_RESULTS_SELECTOR, WaitPolicy.getPresenceTimeoutSeconds());
+            return this;
+        });
+    }
+
+    /**
+     * Reads all journeys of the results in one script call
+     *
+     * @return Journeys in the order they are listed
+     */
+    public List<Journey> getJourneys() {
+        return timed("getJourneys", () -> readPage(0, Integer.MAX_VALUE).journeys);
+    }
+
+    /**
+     * Streams the journeys of the results, reading them lazily in pages of the given size
+     * Each page costs one script call; later pages are only read when the stream reaches them.
+     *
+     * @param pageSize Number of rows read per script call
+     * @return Lazy stream of journeys
+     */
+    public Stream<Journey> streamJourneys(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        Iterator<Journey> iterator = new Iterator<Journey>() {
+            private List<Journey> page = Collections.emptyList();
+            private int indexInPage;
+            private int offset;
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                if (indexInPage < page.size()) {
+                    return true;
+                }
+                if (lastPage) {
+                    return false;
+                }
+                Page next = timed("readPage", () -> readPage(offset, pageSize));
+                page = next.journeys;
+                indexInPage = 0;
+                offset += page.size();
+                lastPage = page.size() < pageSize || offset >= next.total;
+                return !page.isEmpty();
+            }
+
+            @Override
+            public Journey next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(indexInPage++);
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Gets the number of journeys listed
+     *
+     * @return Number of journey rows
+     */
+    public int getJourneyCount() {
+        return timed("getJourneyCount", () -> readPage(0, 0).total);
+    }
+
+    /**
+     * Checks if the site reported that no journey was found
+     *
+     * @return true if the empty-result message is shown
+     */
+    public boolean hasNoResults() {
+        return timed("hasNoResults", () ->
+                Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(NO_RESULTS_SCRIPT, NO_RESULTS_SELECTOR)));
+    }
+
+    private Page readPage(int offset, int limit) {
+        String result = (String) ((JavascriptExecutor) driver).executeScript(READ_ROWS_SCRIPT, ROW_SELECTOR, offset, limit);
+        Map<String, Object> page = json.toType(result, Json.MAP_TYPE);
+
+        List<Journey> journeys = new ArrayList<>();
+        for (Object row : (List<?>) page.get("rows")) {
+            journeys.add(toJourney((Map<?, ?>) row));
+        }
+        return new Page(((Number) page.get("total")).intValue(), Collections.unmodifiableList(journeys));
+    }
+
+    private Journey toJourney(Map<?, ?> row) {
+        String[] route = String.valueOf(row.get("route")).split("\\s+-\\s+", 2);
+        return new Journey(
+                String.valueOf(row.get("id")),
+                route[0],
+                route.length > 1 ? route[1] : "",
+                parseTime(String.valueOf(row.get("departureTime"))),
+                parseTime(String.valueOf(row.get("arrivalTime"))),
+                String.valueOf(row.get("operator")),
+                parseSeats(String.valueOf(row.get("seats"))),
+                parsePrice(String.valueOf(row.get("price"))));
+    }
+
+    /**
+     * Parses times such as "09:30", "9:30" or "09.30", returning null for anything else
+     */
+    private static LocalTime parseTime(String text) {
+        Matcher matcher = TIME.matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return LocalTime.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int parseSeats(String text) {
+        Matcher matcher = FIRST_NUMBER.matcher(text);
+        return matcher.find() ? Integer.parseInt(matcher.group()) : 0;
+    }
+
+    /**
+     * Parses prices such as "450.00 TL", "450,00 TL", "1.250 TL" or "1.250,00 TL"
+     * A dot followed by groups of exactly three digits and no decimal comma is read as a thousands separator.
+     *
+     * @param text Price text as shown on the page
+     * @return Price, or null if the text has no digits
+     */
+    public static BigDecimal parsePrice(String text) {
+        String amount = text.replaceAll("[^0-9.,]", "").replaceAll("^[.,]+|[.,]+$", "");
+        if (amount.isEmpty()) {
+            return null;
+        }
+        int lastComma = amount.lastIndexOf(',');
+        int lastDot = amount.lastIndexOf('.');
+        if (lastComma > lastDot || DOT_THOUSANDS.matcher(amount).matches()) {
+            amount = amount.replace(".", "").replace(',', '.');
+        } else {
+            amount = amount.replace(",", "");
+        }
+        return new BigDecimal(amount);
+    }
+
+    private static final class Page {
+        private final int total;
+        private final List<Journey> journeys;
+
+        private Page(int total, List<Journey> journeys) {
+            this.total = total;
+            this.journeys = journeys;
+        }
+    }
+}
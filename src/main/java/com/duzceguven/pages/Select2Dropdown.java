@@ -0,0 +1,137 @@
+package com.duzceguven.pages;
+
+import com.duzceguven.utils.DriverManager;
+import com.duzceguven.utils.LatencyRecorder;
+import com.duzceguven.utils.WaitPolicy;
+import com.duzceguven.utils.WebDriverUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Component object for a Select2 dropdown, addressed by the id of the underlying select element
+ * An option is selected by setting the select's value and firing the change event Select2 listens to,
+ * in a single script call. Clicking through the widget is only used as a fallback when enabled
+ * with {@link #withUiFallback(boolean)} or the {@code select2.ui.fallback} system property.
+ */
+public class Select2Dropdown {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+    /**
+     * Finds the option by its text (exact match first, then partial, ignoring case the Turkish way),
+     * selects it through jQuery when Select2 is initialised with it, or with a native change event otherwise.
+     * Arguments: select id, option text.
+     * Returns {found, value, rendered} where rendered is the text Select2 shows after the change.
+     */
+    private static final String SELECT_SCRIPT =
+        "var select = document.getElementById(arguments[0]);" +
+        "if (!select) { return {found: false, rendered: ''}; }" +
+        "var wanted = arguments[1].trim().toLocaleUpperCase('tr-TR');" +
+        "var match = null;" +
+        "for (var i = 0; i < select.options.length && !match; i++) {" +
+        "  if (select.options[i].text.trim().toLocaleUpperCase('tr-TR') === wanted) { match = select.options[i]; }" +
+        "}" +
+        "for (var j = 0; j < select.options.length && !match; j++) {" +
+        "  if (select.options[j].value && select.options[j].text.toLocaleUpperCase('tr-TR').indexOf(wanted) > -1) { match = select.options[j]; }" +
+        "}" +
+        "var container = document.getElementById('select2-' + arguments[0] + '-container');" +
+        "if (!match) { return {found: false, rendered: container ? container.textContent.trim() : ''}; }" +
+        "if (window.jQuery && window.jQuery(select).data('select2')) {" +
+        "  window.jQuery(select).val(match.value).trigger('change');" +
+        "} else {" +
+        "  select.value = match.value;" +
+        "  select.dispatchEvent(new Event('change', { bubbles: true }));" +
+        "}" +
+        "return {found: true, value: match.value, rendered: container ? container.textContent.trim() : match.text.trim()};";
+
+    private final WebDriver driver;
+    private final String selectId;
+    private boolean uiFallback = Boolean.getBoolean("select2.ui.fallback");
+
+    /**
+     * Creates the component for the WebDriver bound to the current thread
+     *
+     * @param selectId Id of the select element Select2 is attached to
+     */
+    public Select2Dropdown(String selectId) {
+        this(DriverManager.getDriver(), selectId);
+    }
+
+    public Select2Dropdown(WebDriver driver, String selectId) {
+        this.driver = driver;
+        this.selectId = selectId;
+    }
+
+    /**
+     * Enables or disables selecting through the widget UI when the scripted selection fails
+     *
+     * @param uiFallback true to click through the dropdown as a fallback
+     * @return Select2Dropdown instance
+     */
+    public Select2Dropdown withUiFallback(boolean uiFallback) {
+        this.uiFallback = uiFallback;
+        return this;
+    }
+
+    /**
+     * Selects the option with the given text and checks that Select2 shows it
+     *
+     * @param text Text of the option, case does not matter
+     * @return true if the option is selected and rendered, false otherwise
+     */
+    public boolean select(String text) {
+        return LatencyRecorder.time("page Select2Dropdown.select", () -> {
+            Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(SELECT_SCRIPT, selectId, text);
+
+            if (Boolean.TRUE.equals(result.get("found")) && shows(String.valueOf(result.get("rendered")), text)) {
+                return true;
+            }
+
+            System.out.println("Select2 '" + selectId + "' did not select '" + text + "', showing '"
+                    + result.get("rendered") + "'");
+            return uiFallback && selectThroughUi(text);
+        });
+    }
+
+    /**
+     * Gets the text Select2 currently shows as the selection
+     *
+     * @return Rendered selection text
+     */
+    public String getSelectedText() {
+        return driver.findElement(getContainer()).getText().trim();
+    }
+
+    private boolean selectThroughUi(String text) {
+        try {
+            driver.findElement(getContainer()).click();
+            WebDriverUtils.waitForSelectorVisible(driver,
+                    "#select2-" + selectId + "-results .select2-results__option:not(.loading-results)",
+                    WaitPolicy.getPresenceTimeoutSeconds());
+
+            for (WebElement option : driver.findElements(By.cssSelector("#select2-" + selectId + "-results .select2-results__option"))) {
+                if (shows(option.getText(), text)) {
+                    option.click();
+                    return shows(getSelectedText(), text);
+                }
+            }
+            System.out.println("Select2 '" + selectId + "' has no option '" + text + "'");
+        } catch (Exception e) {
+            System.out.println("Could not select '" + text + "' through Select2 '" + selectId + "': " + e.getMessage());
+        }
+        return false;
+    }
+
+    private By getContainer() {
+        return By.id("select2-" + selectId + "-container");
+    }
+
+    private boolean shows(String rendered, String text) {
+        return rendered.trim().toUpperCase(TURKISH).contains(text.trim().toUpperCase(TURKISH));
+    }
+}
@@ -0,0 +1,90 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Chrome launch profiles, selected with the {@code browser.profile} system property
+ * (headed, headless or lean; defaults to headed).
+ * The lean profile runs headless with a fixed viewport and turns off extensions, background
+ * networking and image loading to keep the memory footprint of each browser low.
+ * Images can be kept in the lean profile with {@code -Dbrowser.lean.images=true}.
+ */
+public enum ChromeLaunchProfile {
+
+    HEADED {
+        @Override
+        public ChromeOptions toOptions() {
+            ChromeOptions options = new ChromeOptions();
+            options.addArguments("--start-maximized");
+            return options;
+        }
+    },
+
+    HEADLESS {
+        @Override
+        public ChromeOptions toOptions() {
+            ChromeOptions options = new ChromeOptions();
+            options.addArguments("--headless=new", WINDOW_SIZE);
+            return options;
+        }
+    },
+
+    LEAN {
+        @Override
+        public ChromeOptions toOptions() {
+            ChromeOptions options = new ChromeOptions();
+            options.addArguments(
+                "--headless=new",
+                WINDOW_SIZE,
+                "--disable-extensions",
+                "--disable-background-networking",
+                "--disable-component-update",
+                "--disable-default-apps",
+                "--disable-sync",
+                "--disable-gpu",
+                "--disable-dev-shm-usage",
+                "--no-first-run",
+                "--mute-audio",
+                "--disable-features=Translate,OptimizationHints,MediaRouter");
+
+            if (!Boolean.getBoolean(LEAN_IMAGES_PROPERTY)) {
+                Map<String, Object> prefs = new HashMap<>();
+                prefs.put("profile.managed_default_content_settings.images", 2);
+                options.setExperimentalOption("prefs", prefs);
+            }
+            return options;
+        }
+    };
+
+    public static final String PROFILE_PROPERTY = "browser.profile";
+    public static final String LEAN_IMAGES_PROPERTY = "browser.lean.images";
+
+    private static final String WINDOW_SIZE = "--window-size=1366,768";
+
+    /**
+     * Builds the Chrome options of this profile
+     *
+     * @return ChromeOptions for launching the browser
+     */
+    public abstract ChromeOptions toOptions();
+
+    /**
+     * Gets the profile selected with the {@code browser.profile} system property
+     *
+     * @return Selected launch profile, HEADED if none is set
+     * @throws IllegalArgumentException if the property names an unknown profile
+     */
+    public static ChromeLaunchProfile fromSystemProperty() {
+        String profile = System.getProperty(PROFILE_PROPERTY, HEADED.name());
+        try {
+            return valueOf(profile.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + PROFILE_PROPERTY + " '" + profile
+                    + "', expected one of headed, headless, lean", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * WebDriver listener that records the latency of every driver, element and navigation call
+ * in {@link LatencyRecorder}, keyed by command name (findElement, click, executeScript, get, ...).
+ * Use it with Selenium's {@code EventFiringDecorator}.
+ */
+public class CommandLatencyListener implements WebDriverListener {
+
+    private static final String PREFIX = "command ";
+
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        stop(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        stop(method);
+    }
+
+    private void stop(Method method) {
+        Long start = startTimes.get().poll();
+        if (start != null) {
+            LatencyRecorder.record(PREFIX + method.getName(), System.nanoTime() - start);
+        }
+    }
+}
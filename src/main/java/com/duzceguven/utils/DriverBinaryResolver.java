@@ -0,0 +1,131 @@
+package com.duzceguven.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the ChromeDriver binary once per JVM without any network lookup.
+ * The binary is taken from the {@code webdriver.chrome.driver} system property or,
+ * when that is not set, from the newest chromedriver found in the local driver cache
+ * ({@code driver.cache.dir}, defaults to the WebDriverManager cache in {@code ~/.cache/selenium}).
+ * Online resolution through WebDriverManager is only used when {@code driver.resolve.online=true}.
+ */
+public class DriverBinaryResolver {
+
+    public static final String DRIVER_PATH_PROPERTY = "webdriver.chrome.driver";
+    public static final String CACHE_DIR_PROPERTY = "driver.cache.dir";
+    public static final String ONLINE_PROPERTY = "driver.resolve.online";
+
+    private static volatile String resolvedPath;
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Resolves the ChromeDriver binary and registers it for Selenium.
+     * Only the first call does any work, later calls return the cached path.
+     *
+     * @return Absolute path of the ChromeDriver binary
+     * @throws IllegalStateException if no usable binary can be found
+     */
+    public static String resolveChromeDriver() {
+        String path = resolvedPath;
+        if (path != null) {
+            return path;
+        }
+
+        synchronized (DriverBinaryResolver.class) {
+            if (resolvedPath == null) {
+                resolvedPath = resolve();
+                System.out.println("Using ChromeDriver binary: " + resolvedPath);
+            }
+            return resolvedPath;
+        }
+    }
+
+    private static String resolve() {
+        String configuredPath = System.getProperty(DRIVER_PATH_PROPERTY);
+        if (configuredPath != null && !configuredPath.isEmpty()) {
+            Path binary = Paths.get(configuredPath);
+            if (!Files.isExecutable(binary)) {
+                throw new IllegalStateException("ChromeDriver binary configured with -D" + DRIVER_PATH_PROPERTY
+                        + " does not exist or is not executable: " + binary.toAbsolutePath());
+            }
+            return binary.toAbsolutePath().toString();
+        }
+
+        Path cacheDir = Paths.get(System.getProperty(CACHE_DIR_PROPERTY,
+                Paths.get(System.getProperty("user.home"), ".cache", "selenium").toString()));
+        Optional<Path> cachedBinary = findCachedBinary(cacheDir);
+        if (cachedBinary.isPresent()) {
+            String path = cachedBinary.get().toAbsolutePath().toString();
+            System.setProperty(DRIVER_PATH_PROPERTY, path);
+            return path;
+        }
+
+        if (Boolean.getBoolean(ONLINE_PROPERTY)) {
+            WebDriverManager manager = WebDriverManager.chromedriver();
+            manager.setup();
+            return manager.getDownloadedDriverPath();
+        }
+
+        throw new IllegalStateException("No ChromeDriver binary found in " + cacheDir.toAbsolutePath()
+                + ". Set -D" + DRIVER_PATH_PROPERTY + "=<path to chromedriver>, point -D" + CACHE_DIR_PROPERTY
+                + " at a directory containing it, or run once with -D" + ONLINE_PROPERTY + "=true to download it.");
+    }
+
+    /**
+     * Finds the chromedriver binary with the highest version in the cache directory
+     * Directories named chromedriver, as in the Selenium Manager layout chromedriver/linux64/&lt;version&gt;, are skipped.
+     *
+     * @param cacheDir Directory to search
+     * @return Path of the newest chromedriver binary, if any
+     */
+    public static Optional<Path> findCachedBinary(Path cacheDir) {
+        if (!Files.isDirectory(cacheDir)) {
+            return Optional.empty();
+        }
+
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.equals("chromedriver") || name.equals("chromedriver.exe");
+                    })
+                    .filter(file -> Files.isRegularFile(file) && Files.isExecutable(file))
+                    .max(Comparator.comparing(DriverBinaryResolver::versionOf, DriverBinaryResolver::compareVersions));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read driver cache directory " + cacheDir.toAbsolutePath(), e);
+        }
+    }
+
+    private static String versionOf(Path binary) {
+        for (Path dir = binary.getParent(); dir != null; dir = dir.getParent()) {
+            String name = dir.getFileName() == null ? "" : dir.getFileName().toString();
+            if (name.matches("\\d+(\\.\\d+)*")) {
+                return name;
+            }
+        }
+        return "0";
+    }
+
+    private static int compareVersions(String left, String right) {
+        String[] leftParts = left.split("\\.");
+        String[] rightParts = right.split("\\.");
+        for (int i = 0; i < Math.max(leftParts.length, rightParts.length); i++) {
+            long leftPart = i < leftParts.length ? Long.parseLong(leftParts[i]) : 0;
+            long rightPart = i < rightParts.length ? Long.parseLong(rightParts[i]) : 0;
+            if (leftPart != rightPart) {
+                return Long.compare(leftPart, rightPart);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Thread-safe holder for the WebDriver used by the current thread.
+ * Tests running in parallel each bind their own driver, and page objects
+ * created without an explicit driver pick up the one of their thread.
+ */
+public class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+    private DriverManager() {
+    }
+
+    /**
+     * Gets the WebDriver bound to the current thread
+     *
+     * @return WebDriver instance of the current thread
+     * @throws IllegalStateException if no driver is bound to the current thread
+     */
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    /**
+     * Binds a WebDriver to the current thread
+     *
+     * @param driver WebDriver instance to bind
+     */
+    public static void setDriver(WebDriver driver) {
+        DRIVER.set(driver);
+    }
+
+    /**
+     * Removes the WebDriver binding of the current thread
+     */
+    public static void unload() {
+        DRIVER.remove();
+    }
+}
@@ -0,0 +1,167 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of warm WebDriver instances keyed by the thread that uses them.
+ * A driver is launched once per thread and reused for the following tests
+ * after its cookies and storage are cleared, instead of restarting the browser.
+ */
+public class DriverPool {
+
+    private final Supplier<WebDriver> driverFactory;
+    private final Map<Long, WebDriver> drivers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger poolHits = new AtomicInteger();
+    private final AtomicInteger coldLaunches = new AtomicInteger();
+    private final AtomicInteger evictions = new AtomicInteger();
+
+    public DriverPool(Supplier<WebDriver> driverFactory) {
+        this.driverFactory = driverFactory;
+    }
+
+    /**
+     * Returns the warm driver of the current thread, launching a new one
+     * if the thread has none or its driver failed the health check
+     *
+     * @return WebDriver instance owned by the current thread
+     */
+    public WebDriver acquire() {
+        long owner = Thread.currentThread().getId();
+        WebDriver driver = drivers.get(owner);
+
+        if (driver != null) {
+            if (isHealthy(driver)) {
+                poolHits.incrementAndGet();
+                return driver;
+            }
+            drivers.remove(owner);
+            discard(driver);
+        }
+
+        driver = driverFactory.get();
+        coldLaunches.incrementAndGet();
+        drivers.put(owner, driver);
+        return driver;
+    }
+
+    /**
+     * Resets the current thread's driver so it can be reused by the next test.
+     * Drivers that cannot be reset are quit and dropped from the pool.
+     */
+    public void release() {
+        long owner = Thread.currentThread().getId();
+        WebDriver driver = drivers.get(owner);
+        if (driver == null) {
+            return;
+        }
+
+        try {
+            resetState(driver);
+        } catch (Exception e) {
+            System.out.println("Could not reset pooled driver, discarding it: " + e.getMessage());
+            drivers.remove(owner);
+            discard(driver);
+        }
+    }
+
+    /**
+     * Quits every pooled driver
+     */
+    public void shutdown() {
+        List<WebDriver> pooled = new ArrayList<>(drivers.values());
+        drivers.clear();
+        for (WebDriver driver : pooled) {
+            WaitFactory.release(driver);
+            NetworkIdleMonitor.release(driver);
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                System.out.println("Error quitting pooled driver: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of acquisitions served by an already running browser
+     *
+     * @return Number of pool hits
+     */
+    public int getPoolHits() {
+        return poolHits.get();
+    }
+
+    /**
+     * Gets the number of browsers launched by the pool
+     *
+     * @return Number of cold launches
+     */
+    public int getColdLaunches() {
+        return coldLaunches.get();
+    }
+
+    /**
+     * Gets the number of drivers dropped because they were unhealthy or could not be reset
+     *
+     * @return Number of evicted drivers
+     */
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Builds a one-line summary of the pool usage
+     *
+     * @return Pool statistics
+     */
+    public String getStatistics() {
+        int hits = poolHits.get();
+        int launches = coldLaunches.get();
+        int total = hits + launches;
+        double hitRate = total == 0 ? 0 : (hits * 100.0) / total;
+        return String.format("Driver pool: %d acquisitions, %d pool hits, %d cold launches, %d evictions (%.1f%% hit rate)",
+                total, hits, launches, evictions.get(), hitRate);
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript("return true;"));
+        } catch (Exception e) {
+            System.out.println("Pooled driver failed health check: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void resetState(WebDriver driver) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i)).close();
+        }
+        driver.switchTo().window(handles.get(0));
+
+        ((JavascriptExecutor) driver).executeScript(
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+        driver.get("about:blank");
+    }
+
+    private void discard(WebDriver driver) {
+        evictions.incrementAndGet();
+        WaitFactory.release(driver);
+        NetworkIdleMonitor.release(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.out.println("Error quitting discarded driver: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.duzceguven.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collects latency histograms per WebDriver command and per page object method for the whole run
+ */
+public class LatencyRecorder {
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private LatencyRecorder() {
+    }
+
+    /**
+     * Records one sample for an operation
+     *
+     * @param operation Name of the operation, e.g. "command findElement"
+     * @param nanos Duration in nanoseconds
+     */
+    public static void record(String operation, long nanos) {
+        HISTOGRAMS.computeIfAbsent(operation, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Runs an action and records how long it took
+     *
+     * @param operation Name of the operation
+     * @param action Action to run
+     * @param <T> Result type of the action
+     * @return Result of the action
+     */
+    public static <T> T time(String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(operation, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the histogram of an operation
+     *
+     * @param operation Name of the operation
+     * @return Histogram, or null if nothing was recorded for the operation
+     */
+    public static LatencyHistogram getHistogram(String operation) {
+        return HISTOGRAMS.get(operation);
+    }
+
+    /**
+     * Builds a table of all recorded operations, sorted by name
+     *
+     * @return Latency summary
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-50s %8s %10s %10s %10s %10s %10s %12s%n",
+                "operation", "count", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms", "total ms"));
+
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            summary.append(String.format("%-50s %8d %10.1f %10.1f %10.1f %10.1f %10.1f %12.1f%n",
+                    entry.getKey(),
+                    histogram.getCount(),
+                    histogram.getMeanMillis(),
+                    histogram.getPercentileMillis(50),
+                    histogram.getPercentileMillis(90),
+                    histogram.getPercentileMillis(99),
+                    histogram.getMaxMillis(),
+                    histogram.getTotalMillis()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes the latency summary to a file, creating parent directories as needed
+     *
+     * @param file File to write
+     */
+    public static void writeSummary(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, getSummary().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Error writing latency summary: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drops all recorded samples
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+}
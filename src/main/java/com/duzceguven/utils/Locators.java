@@ -0,0 +1,116 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the page object locators, read once from locators.properties on the classpath
+ * Every By is built once per key. Templates are parsed once per key and only filled in on each call,
+ * so the cache stays bounded by the number of keys whatever arguments the page objects pass.
+ */
+public class Locators {
+
+    private static final String LOCATORS_FILE = "locators.properties";
+
+    private static final Properties DEFINITIONS = load();
+    private static final Map<String, By> LOCATORS = new ConcurrentHashMap<>();
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    private Locators() {
+    }
+
+    /**
+     * Gets the locator registered under a key
+     *
+     * @param key Key in locators.properties, e.g. "home.searchButton"
+     * @return Cached By instance
+     * @throws IllegalArgumentException if the key is not defined
+     */
+    public static By get(String key) {
+        return LOCATORS.computeIfAbsent(key, k -> parse(k).toBy(k));
+    }
+
+    /**
+     * Gets the locator of a template filled in with the given arguments
+     *
+     * @param key Key of a template in locators.properties, e.g. "home.calendarDay"
+     * @param args Arguments for the placeholders of the template
+     * @return New By instance for the arguments, built from the cached template
+     * @throws IllegalArgumentException if the key is not defined
+     */
+    public static By format(String key, Object... args) {
+        return TEMPLATES.computeIfAbsent(key, Locators::parse).toBy(key, args);
+    }
+
+    private static Template parse(String key) {
+        String definition = DEFINITIONS.getProperty(key);
+        if (definition == null) {
+            throw new IllegalArgumentException("No locator defined for key: " + key);
+        }
+        int separator = definition.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Locator " + key + " has no strategy prefix: " + definition);
+        }
+        return new Template(definition.substring(0, separator).trim(), definition.substring(separator + 1).trim());
+    }
+
+    private static By toBy(String key, String strategy, String value) {
+        switch (strategy) {
+            case "xpath":
+                return By.xpath(value);
+            case "css":
+                return By.cssSelector(value);
+            case "id":
+                return By.id(value);
+            case "name":
+                return By.name(value);
+            case "className":
+                return By.className(value);
+            case "linkText":
+                return By.linkText(value);
+            default:
+                throw new IllegalArgumentException("Locator " + key + " has an unknown strategy: " + strategy);
+        }
+    }
+
+    private static Properties load() {
+        try (InputStream in = Locators.class.getClassLoader().getResourceAsStream(LOCATORS_FILE)) {
+            if (in == null) {
+                throw new IllegalStateException("Locator file not found on the classpath: " + LOCATORS_FILE);
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + LOCATORS_FILE, e);
+        }
+    }
+
+    /**
+     * Strategy and value of a locator definition, the value possibly holding format placeholders
+     */
+    private static final class Template {
+        private final String strategy;
+        private final String value;
+
+        private Template(String strategy, String value) {
+            this.strategy = strategy;
+            this.value = value;
+        }
+
+        private By toBy(String key, Object... args) {
+            return Locators.toBy(key, strategy, args.length == 0 ? value : String.format(value, args));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Tracks the requests a browser has in flight through Chrome DevTools Protocol network events,
+ * so a test can continue as soon as the network has been quiet for a short window
+ * ({@code network.idle.quiet.millis}, default 500) instead of sleeping for a fixed time.
+ * Monitors are registered per driver, like the waits of {@link WaitFactory}, and dropped with {@link #release(WebDriver)}.
+ */
+public class NetworkIdleMonitor {
+
+    public static final String QUIET_WINDOW_PROPERTY = "network.idle.quiet.millis";
+
+    private static final int DEFAULT_QUIET_WINDOW_MILLIS = 500;
+
+    private static final Function<JsonInput, Map<String, Object>> AS_MAP = input -> input.read(Json.MAP_TYPE);
+
+    private static final Map<WebDriver, NetworkIdleMonitor> MONITORS = new ConcurrentHashMap<>();
+
+    private final Set<String> inFlight = new HashSet<>();
+    private long lastActivityNanos = System.nanoTime();
+
+    private NetworkIdleMonitor() {
+    }
+
+    /**
+     * Starts tracking the network of a browser
+     *
+     * @param driver Driver the page objects use, may be a decorated driver
+     * @param devToolsDriver Chrome driver the DevTools session is opened on
+     * @return NetworkIdleMonitor registered for the driver
+     */
+    public static NetworkIdleMonitor attach(WebDriver driver, HasDevTools devToolsDriver) {
+        NetworkIdleMonitor monitor = new NetworkIdleMonitor();
+
+        DevTools devTools = devToolsDriver.getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<>("Network.enable", new HashMap<>()));
+
+        devTools.addListener(new Event<>("Network.requestWillBeSent", AS_MAP),
+                event -> monitor.started(String.valueOf(event.get("requestId"))));
+        devTools.addListener(new Event<>("Network.loadingFinished", AS_MAP),
+                event -> monitor.finished(String.valueOf(event.get("requestId"))));
+        devTools.addListener(new Event<>("Network.loadingFailed", AS_MAP),
+                event -> monitor.finished(String.valueOf(event.get("requestId"))));
+
+        MONITORS.put(driver, monitor);
+        return monitor;
+    }
+
+    /**
+     * Gets the monitor registered for a driver
+     *
+     * @param driver WebDriver instance
+     * @return NetworkIdleMonitor, or null if the network of the driver is not tracked
+     */
+    public static NetworkIdleMonitor forDriver(WebDriver driver) {
+        return MONITORS.get(driver);
+    }
+
+    /**
+     * Stops tracking a driver, e.g. when it is quit
+     *
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        MONITORS.remove(driver);
+    }
+
+    /**
+     * Gets the time the network has to be quiet before it counts as idle
+     *
+     * @return Quiet window
+     */
+    public static Duration getQuietWindow() {
+        return Duration.ofMillis(Integer.getInteger(QUIET_WINDOW_PROPERTY, DEFAULT_QUIET_WINDOW_MILLIS));
+    }
+
+    /**
+     * Waits until no request is in flight and no request started or ended for the quiet window
+     * The quiet window also runs from the start of the wait, so a request fired just before the call
+     * is not missed because its event has not arrived yet.
+     *
+     * @param quietWindow Time without network activity that counts as idle
+     * @param timeout Maximum time to wait
+     * @return true if the network became idle, false if the wait timed out
+     */
+    public synchronized boolean waitForIdle(Duration quietWindow, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long quiet = quietWindow.toNanos();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long idleSince = Math.max(lastActivityNanos, start);
+                if (inFlight.isEmpty() && now - idleSince >= quiet) {
+                    return true;
+                }
+                if (now >= deadline) {
+                    System.out.println("Network not idle within " + timeout.toMillis() + " ms, "
+                            + inFlight.size() + " requests in flight");
+                    return false;
+                }
+                long sleep = inFlight.isEmpty() ? Math.min(idleSince + quiet, deadline) - now : deadline - now;
+                wait(Math.max(1, sleep / 1_000_000));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Forgets the tracked requests, e.g. at the start of a test
+     */
+    public synchronized void reset() {
+        inFlight.clear();
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    public synchronized int getInFlightRequests() {
+        return inFlight.size();
+    }
+
+    private synchronized void started(String requestId) {
+        inFlight.add(requestId);
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private synchronized void finished(String requestId) {
+        inFlight.remove(requestId);
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+}
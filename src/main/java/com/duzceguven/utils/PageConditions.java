@@ -0,0 +1,117 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Conditions on the state of the Düzce Güven pages, used instead of fixed pauses.
+ * Each condition is evaluated with a single script call per poll.
+ */
+public class PageConditions {
+
+    /**
+     * CSS selector of the rows and the empty-result message of the journey search results
+     */
+    public static final String SEARCH_RESULTS_SELECTOR =
+            ".search-results .journey-row, .search-results .no-results";
+
+    private static final String IS_VISIBLE =
+            "var isVisible = function(e) {" +
+            "  return !!e && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length) &&" +
+            "         window.getComputedStyle(e).visibility !== 'hidden';" +
+            "};";
+
+    private PageConditions() {
+    }
+
+    /**
+     * Document has finished loading and no jQuery request is in flight
+     *
+     * @return Condition that holds once the page is ready
+     */
+    public static ExpectedCondition<Boolean> documentReady() {
+        return javaScriptCondition("document ready",
+            "return document.readyState === 'complete' &&" +
+            "  (typeof window.jQuery === 'undefined' || window.jQuery.active === 0);");
+    }
+
+    /**
+     * A visible dropdown option containing the given text is rendered
+     *
+     * @param text Text of the option
+     * @return Condition that holds once the option is shown
+     */
+    public static ExpectedCondition<Boolean> dropdownOptionRendered(String text) {
+        return javaScriptCondition("dropdown option '" + text + "' rendered", IS_VISIBLE +
+            "var options = document.querySelectorAll('li');" +
+            "for (var i = 0; i < options.length; i++) {" +
+            "  if (isVisible(options[i]) && options[i].textContent.indexOf(arguments[0]) > -1) {" +
+            "    return true;" +
+            "  }" +
+            "}" +
+            "return false;", text);
+    }
+
+    /**
+     * Datepicker calendar is open
+     *
+     * @return Condition that holds once the day view of the calendar is visible
+     */
+    public static ExpectedCondition<Boolean> datepickerOpen() {
+        return javaScriptCondition("datepicker open", IS_VISIBLE +
+            "var pickers = document.querySelectorAll('.datepicker-days');" +
+            "for (var i = 0; i < pickers.length; i++) {" +
+            "  if (isVisible(pickers[i])) {" +
+            "    return true;" +
+            "  }" +
+            "}" +
+            "return false;");
+    }
+
+    /**
+     * Datepicker calendar is closed
+     *
+     * @return Condition that holds once no day view of the calendar is visible
+     */
+    public static ExpectedCondition<Boolean> datepickerClosed() {
+        return javaScriptCondition("datepicker closed", IS_VISIBLE +
+            "var pickers = document.querySelectorAll('.datepicker-days');" +
+            "for (var i = 0; i < pickers.length; i++) {" +
+            "  if (isVisible(pickers[i])) {" +
+            "    return false;" +
+            "  }" +
+            "}" +
+            "return true;");
+    }
+
+    /**
+     * Search results list is populated with journeys or with the empty-result message
+     *
+     * @return Condition that holds once the search results are shown
+     */
+    public static ExpectedCondition<Boolean> searchResultsLoaded() {
+        return javaScriptCondition("search results loaded", IS_VISIBLE +
+            "var rows = document.querySelectorAll(arguments[0]);" +
+            "for (var i = 0; i < rows.length; i++) {" +
+            "  if (isVisible(rows[i])) {" +
+            "    return true;" +
+            "  }" +
+            "}" +
+            "return false;", SEARCH_RESULTS_SELECTOR);
+    }
+
+    private static ExpectedCondition<Boolean> javaScriptCondition(String description, String script, Object... args) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script, args));
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
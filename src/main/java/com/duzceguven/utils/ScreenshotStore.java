@@ -0,0 +1,174 @@
+package com.duzceguven.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores screenshots once per distinct frame and attaches them to the running Allure test or step
+ * Frames are identified by their SHA-256 hash; a frame that was already stored is not written again,
+ * the report gets a short text attachment pointing to the stored file instead.
+ * New frames can be downsampled ({@code screenshot.scale}, default 1.0) and re-encoded as JPEG
+ * ({@code screenshot.format=jpg}, quality {@code screenshot.jpeg.quality}, default 0.7).
+ * Encoding and writing happen on the {@link ScreenshotWriter} thread. A frame that cannot be re-encoded or written
+ * is forgotten, so later identical frames are stored again, and the original PNG is written in its place.
+ */
+public class ScreenshotStore {
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("screenshot.scale", "1.0"));
+    private static final String FORMAT = System.getProperty("screenshot.format", "png").toLowerCase(Locale.ROOT);
+    private static final float JPEG_QUALITY = Float.parseFloat(System.getProperty("screenshot.jpeg.quality", "0.7"));
+
+    private static final Map<String, Path> FRAMES = new ConcurrentHashMap<>();
+    private static final AtomicLong DUPLICATES = new AtomicLong();
+
+    private ScreenshotStore() {
+    }
+
+    /**
+     * Stores a screenshot unless the same frame was stored before, and attaches it to the report
+     *
+     * @param name Name of the screenshot
+     * @param png PNG bytes as returned by the driver
+     * @return Path of the stored frame, possibly one stored earlier
+     */
+    public static Path store(String name, byte[] png) {
+        String extension = isJpeg() ? "jpg" : "png";
+        Path file = ScreenshotWriter.newFile(name, extension);
+
+        String hash = sha256(png);
+        Path stored = FRAMES.putIfAbsent(hash, file);
+        if (stored != null) {
+            DUPLICATES.incrementAndGet();
+            attachText(name, "Same frame as " + stored.getFileName());
+            return stored;
+        }
+
+        String attachmentSource = prepareAttachment(name, extension);
+        ScreenshotWriter.submit(file, () -> encode(png), bytes -> writeAttachment(attachmentSource, bytes), () -> {
+            FRAMES.remove(hash, file);
+            String fileName = file.getFileName().toString();
+            Path original = file.resolveSibling(fileName.substring(0, fileName.lastIndexOf('.')) + ".png");
+            System.err.println("Storing the original PNG of " + file.getFileName() + " as " + original.getFileName());
+            ScreenshotWriter.submit(original, () -> png, bytes -> writeAttachment(attachmentSource, bytes));
+        });
+        return file;
+    }
+
+    /**
+     * Gets how many screenshots were skipped because the same frame was already stored
+     *
+     * @return Number of duplicate frames
+     */
+    public static long getDuplicates() {
+        return DUPLICATES.get();
+    }
+
+    /**
+     * Gets how many distinct frames were stored
+     *
+     * @return Number of stored frames
+     */
+    public static int getStoredFrames() {
+        return FRAMES.size();
+    }
+
+    private static boolean isJpeg() {
+        return "jpg".equals(FORMAT) || "jpeg".equals(FORMAT);
+    }
+
+    private static String prepareAttachment(String name, String extension) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (!lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            return null;
+        }
+        return lifecycle.prepareAttachment(name, isJpeg() ? "image/jpeg" : "image/png", extension);
+    }
+
+    private static void writeAttachment(String attachmentSource, byte[] bytes) {
+        if (attachmentSource != null) {
+            Allure.getLifecycle().writeAttachment(attachmentSource, new ByteArrayInputStream(bytes));
+        }
+    }
+
+    private static void attachText(String name, String text) {
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isPresent()) {
+            Allure.addAttachment(name, "text/plain", text);
+        }
+    }
+
+    private static byte[] encode(byte[] png) {
+        if (!isJpeg() && SCALE >= 1.0) {
+            return png;
+        }
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IOException("Screenshot is not a readable image");
+            }
+            int width = Math.max(1, (int) Math.round(image.getWidth() * Math.min(SCALE, 1.0)));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * Math.min(SCALE, 1.0)));
+
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+            graphics.dispose();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (isJpeg()) {
+                writeJpeg(scaled, out);
+            } else {
+                ImageIO.write(scaled, "png", out);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode screenshot", e);
+        }
+    }
+
+    private static void writeJpeg(BufferedImage image, ByteArrayOutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.duzceguven.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes screenshots to disk on a background thread so test threads only capture the bytes
+ * Files go to the {@code screenshot.dir} directory (default "screenshots"), which is created on first use.
+ * The queue holds at most {@code screenshot.queue.capacity} screenshots (default 64);
+ * when it is full the screenshot is written on the calling thread instead of being dropped.
+ */
+public class ScreenshotWriter {
+
+    private static final Path DIRECTORY = Paths.get(System.getProperty("screenshot.dir", "screenshots"));
+    private static final int QUEUE_CAPACITY = Integer.getInteger("screenshot.queue.capacity", 64);
+
+    private static final BlockingQueue<Screenshot> QUEUE = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final AtomicLong INLINE_WRITES = new AtomicLong();
+    private static final Object PENDING_LOCK = new Object();
+
+    private static int pending;
+    private static Thread writerThread;
+
+    private ScreenshotWriter() {
+    }
+
+    /**
+     * Queues a screenshot for writing
+     *
+     * @param name Name of the screenshot, made unique with the thread name and a sequence number
+     * @param png PNG bytes of the screenshot
+     * @return Path the screenshot will be written to
+     */
+    public static Path submit(String name, byte[] png) {
+        Path file = newFile(name, "png");
+        submit(file, () -> png, null);
+        return file;
+    }
+
+    /**
+     * Queues a screenshot whose bytes are produced on the writer thread, e.g. after re-encoding
+     *
+     * @param file File to write, see {@link #newFile(String, String)}
+     * @param content Produces the bytes to write
+     * @param onWritten Called with the written bytes, or null
+     */
+    public static void submit(Path file, Supplier<byte[]> content, Consumer<byte[]> onWritten) {
+        submit(file, content, onWritten, null);
+    }
+
+    /**
+     * Queues a screenshot whose bytes are produced on the writer thread, with a callback for when it cannot be written
+     *
+     * @param file File to write, see {@link #newFile(String, String)}
+     * @param content Produces the bytes to write
+     * @param onWritten Called with the written bytes, or null
+     * @param onFailed Called when producing or writing the bytes failed, or null
+     */
+    public static void submit(Path file, Supplier<byte[]> content, Consumer<byte[]> onWritten, Runnable onFailed) {
+        Screenshot screenshot = new Screenshot(file, content, onWritten, onFailed);
+
+        startWriterThread();
+        synchronized (PENDING_LOCK) {
+            pending++;
+        }
+        if (!QUEUE.offer(screenshot)) {
+            INLINE_WRITES.incrementAndGet();
+            write(screenshot);
+        }
+    }
+
+    /**
+     * Builds a unique file name in the screenshot directory
+     *
+     * @param name Name of the screenshot
+     * @param extension File extension without the dot
+     * @return Path made unique with the thread name and a sequence number
+     */
+    public static Path newFile(String name, String extension) {
+        return DIRECTORY.resolve(String.format("%s_%s_%04d.%s",
+                sanitize(name), sanitize(Thread.currentThread().getName()), SEQUENCE.incrementAndGet(), extension));
+    }
+
+    /**
+     * Waits until all queued screenshots are written
+     *
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return true if everything was written, false if the wait timed out
+     */
+    public static boolean flush(int timeoutInSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        synchronized (PENDING_LOCK) {
+            while (pending > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    System.err.println(pending + " screenshots were not written within " + timeoutInSeconds + " seconds");
+                    return false;
+                }
+                try {
+                    PENDING_LOCK.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets how many screenshots were written on the calling thread because the queue was full
+     *
+     * @return Number of inline writes
+     */
+    public static long getInlineWrites() {
+        return INLINE_WRITES.get();
+    }
+
+    private static synchronized void startWriterThread() {
+        if (writerThread != null) {
+            return;
+        }
+        writerThread = new Thread(() -> {
+            while (true) {
+                try {
+                    write(QUEUE.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "screenshot-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private static void write(Screenshot screenshot) {
+        try {
+            byte[] bytes = screenshot.content.get();
+            Files.createDirectories(screenshot.file.getParent());
+            Files.write(screenshot.file, bytes);
+            if (screenshot.onWritten != null) {
+                screenshot.onWritten.accept(bytes);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error writing screenshot " + screenshot.file + ": " + e.getMessage());
+            if (screenshot.onFailed != null) {
+                try {
+                    screenshot.onFailed.run();
+                } catch (RuntimeException failure) {
+                    System.err.println("Error handling failed screenshot " + screenshot.file + ": " + failure.getMessage());
+                }
+            }
+        } finally {
+            synchronized (PENDING_LOCK) {
+                pending--;
+                PENDING_LOCK.notifyAll();
+            }
+        }
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static final class Screenshot {
+        private final Path file;
+        private final Supplier<byte[]> content;
+        private final Consumer<byte[]> onWritten;
+        private final Runnable onFailed;
+
+        private Screenshot(Path file, Supplier<byte[]> content, Consumer<byte[]> onWritten, Runnable onFailed) {
+            this.file = file;
+            this.content = content;
+            this.onWritten = onWritten;
+            this.onFailed = onFailed;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out configured WebDriverWait instances, cached per driver and per timeout/polling profile,
+ * so a wait is built once per driver instead of on every lookup.
+ * The polling interval is set with {@code wait.polling.millis} (default 100); Selenium's own default
+ * of 500 ms adds up to half a second to every wait that does not succeed on the first check.
+ * A cached wait keeps its driver alive, so drivers are dropped with {@link #release(WebDriver)} when they quit.
+ */
+public class WaitFactory {
+
+    public static final String POLLING_PROPERTY = "wait.polling.millis";
+
+    private static final int DEFAULT_POLLING_MILLIS = 100;
+
+    private static final Map<WebDriver, Map<String, WebDriverWait>> WAITS = new ConcurrentHashMap<>();
+
+    private WaitFactory() {
+    }
+
+    /**
+     * Gets the polling interval of the waits
+     *
+     * @return Polling interval in milliseconds
+     */
+    public static int getPollingMillis() {
+        return Integer.getInteger(POLLING_PROPERTY, DEFAULT_POLLING_MILLIS);
+    }
+
+    /**
+     * Gets a wait with the given timeout and the configured polling interval
+     *
+     * @param driver WebDriver instance
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return Cached WebDriverWait for the driver
+     */
+    public static WebDriverWait get(WebDriver driver, int timeoutInSeconds) {
+        return get(driver, Duration.ofSeconds(timeoutInSeconds), Duration.ofMillis(getPollingMillis()));
+    }
+
+    /**
+     * Gets a wait with the given timeout and polling interval
+     *
+     * @param driver WebDriver instance
+     * @param timeout Maximum time to wait
+     * @param polling Time between two checks of the condition
+     * @return Cached WebDriverWait for the driver
+     */
+    public static WebDriverWait get(WebDriver driver, Duration timeout, Duration polling) {
+        String key = timeout.toMillis() + "/" + polling.toMillis();
+        return WAITS.computeIfAbsent(driver, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new WebDriverWait(driver, timeout, polling));
+    }
+
+    /**
+     * Drops the cached waits of a driver, e.g. when it is quit
+     *
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        WAITS.remove(driver);
+    }
+}
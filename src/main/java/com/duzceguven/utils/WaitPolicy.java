@@ -0,0 +1,86 @@
+package com.duzceguven.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+
+/**
+ * Wait policy for element lookups.
+ * Implicit waits are disabled so that negative checks return immediately; every lookup
+ * goes through an explicit wait instead, with separate timeouts for elements that are
+ * expected to appear ({@code wait.presence.seconds}, default 10) and for checks where the
+ * element may legitimately be missing ({@code wait.absence.seconds}, default 2).
+ */
+public class WaitPolicy {
+
+    public static final String PRESENCE_TIMEOUT_PROPERTY = "wait.presence.seconds";
+    public static final String ABSENCE_TIMEOUT_PROPERTY = "wait.absence.seconds";
+
+    private static final int DEFAULT_PRESENCE_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_ABSENCE_TIMEOUT_SECONDS = 2;
+
+    private WaitPolicy() {
+    }
+
+    /**
+     * Gets the time to wait for an element that is expected to appear
+     *
+     * @return Presence timeout in seconds
+     */
+    public static int getPresenceTimeoutSeconds() {
+        return Integer.getInteger(PRESENCE_TIMEOUT_PROPERTY, DEFAULT_PRESENCE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Gets the time a check waits before concluding that an element is not there
+     *
+     * @return Absence timeout in seconds
+     */
+    public static int getAbsenceTimeoutSeconds() {
+        return Integer.getInteger(ABSENCE_TIMEOUT_PROPERTY, DEFAULT_ABSENCE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Turns off the implicit wait of a driver so that lookups only wait explicitly
+     *
+     * @param driver WebDriver instance
+     */
+    public static void disableImplicitWait(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+    }
+
+    /**
+     * Checks whether an element becomes visible within the absence timeout
+     *
+     * @param driver WebDriver instance
+     * @param locator By locator for the element
+     * @return true if the element is displayed, false otherwise
+     */
+    public static boolean isDisplayed(WebDriver driver, By locator) {
+        try {
+            WebElement element = WebDriverUtils.waitForElementVisible(driver, locator, getAbsenceTimeoutSeconds());
+            return element.isDisplayed();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether an element is missing or hidden within the absence timeout
+     *
+     * @param driver WebDriver instance
+     * @param locator By locator for the element
+     * @return true if the element is absent or invisible, false otherwise
+     */
+    public static boolean isAbsent(WebDriver driver, By locator) {
+        try {
+            return WaitFactory.get(driver, getAbsenceTimeoutSeconds()).until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+}
@@ -1,19 +1,118 @@
 package com.duzceguven.utils;
 
+import com.duzceguven.model.ElementState;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Utility class for common WebDriver operations
  */
 public class WebDriverUtils {
     
+    /**
+     * Resolves as soon as any element matching a CSS selector reaches the wanted state, checking again
+     * on every DOM mutation instead of polling from Java. A slow interval catches changes that do not
+     * mutate the DOM, such as a stylesheet finishing loading.
+     * Arguments: CSS selector, state (visible, clickable or absent), timeout in milliseconds, callback.
+     */
+    private static final String OBSERVE_SCRIPT =
+        "var selector = arguments[0], state = arguments[1], timeout = arguments[2];" +
+        "var done = arguments[arguments.length - 1];" +
+        "var isVisible = function(e) {" +
+        "  return !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length) &&" +
+        "         window.getComputedStyle(e).visibility !== 'hidden';" +
+        "};" +
+        "var check = function() {" +
+        "  var elements = document.querySelectorAll(selector);" +
+        "  for (var i = 0; i < elements.length; i++) {" +
+        "    if (isVisible(elements[i]) && (state !== 'clickable' || !elements[i].disabled)) {" +
+        "      return state !== 'absent';" +
+        "    }" +
+        "  }" +
+        "  return state === 'absent';" +
+        "};" +
+        "if (check()) { done(true); return; }" +
+        "var observer, interval, timer;" +
+        "var finish = function(result) {" +
+        "  observer.disconnect(); clearInterval(interval); clearTimeout(timer);" +
+        "  done(result);" +
+        "};" +
+        "observer = new MutationObserver(function() { if (check()) { finish(true); } });" +
+        "observer.observe(document.documentElement," +
+        "  {childList: true, subtree: true, attributes: true, attributeFilter: ['style', 'class', 'hidden', 'disabled']});" +
+        "interval = setInterval(function() { if (check()) { finish(true); } }, 250);" +
+        "timer = setTimeout(function() { finish(check()); }, timeout);";
+    
+    /**
+     * Reads the state of several elements at once.
+     * Arguments: map of key to {using, value} as in By.Remotable, attribute names.
+     * Returns a JSON string with {present, displayed, selected, text, attributes} per key.
+     */
+    private static final String QUERY_STATES_SCRIPT =
+        "var queries = arguments[0], names = arguments[1];" +
+        "var first = function(list) { return list.length > 0 ? list[0] : null; };" +
+        "var find = function(query) {" +
+        "  switch (query.using) {" +
+        "    case 'id': return document.getElementById(query.value);" +
+        "    case 'css selector': return document.querySelector(query.value);" +
+        "    case 'class name': return first(document.getElementsByClassName(query.value));" +
+        "    case 'name': return first(document.getElementsByName(query.value));" +
+        "    case 'tag name': return first(document.getElementsByTagName(query.value));" +
+        "    case 'xpath':" +
+        "      return document.evaluate(query.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+        "    case 'link text': case 'partial link text':" +
+        "      var links = document.getElementsByTagName('a');" +
+        "      for (var i = 0; i < links.length; i++) {" +
+        "        var linkText = links[i].textContent.trim();" +
+        "        if (query.using === 'link text' ? linkText === query.value : linkText.indexOf(query.value) > -1) {" +
+        "          return links[i];" +
+        "        }" +
+        "      }" +
+        "      return null;" +
+        "  }" +
+        "  return null;" +
+        "};" +
+        "var states = {};" +
+        "for (var key in queries) {" +
+        "  var e = find(queries[key]);" +
+        "  if (!e) { states[key] = {present: false}; continue; }" +
+        "  var displayed = !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length) &&" +
+        "                  window.getComputedStyle(e).visibility !== 'hidden';" +
+        "  var attributes = {};" +
+        "  for (var j = 0; j < names.length; j++) {" +
+        "    var value = names[j] === 'value' && 'value' in e ? e.value : e.getAttribute(names[j]);" +
+        "    attributes[names[j]] = value === null || value === undefined ? null : String(value);" +
+        "  }" +
+        "  states[key] = {present: true, displayed: displayed, selected: !!(e.selected || e.checked)," +
+        "    text: displayed ? (e.innerText || e.textContent || '').trim() : '', attributes: attributes};" +
+        "}" +
+        "return JSON.stringify(states);";
+    
+    private static final Json JSON = new Json();
+    
+    private enum ObservedState {
+        VISIBLE, CLICKABLE, ABSENT
+    }
+    
     /**
      * Waits for an element to be visible
      * 
@@ -23,8 +122,7 @@ public class WebDriverUtils {
      * @return WebElement once it is visible
      */
     public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutInSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return WaitFactory.get(driver, timeoutInSeconds).until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
     
     /**
@@ -36,8 +134,165 @@ public class WebDriverUtils {
      * @return WebElement once it is clickable
      */
     public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeoutInSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return WaitFactory.get(driver, timeoutInSeconds).until(ExpectedConditions.elementToBeClickable(locator));
+    }
+    
+    /**
+     * Waits until a condition holds, without failing when it does not
+     * 
+     * @param driver WebDriver instance
+     * @param condition Condition to wait for
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return true if the condition was met, false if the wait timed out
+     */
+    public static boolean waitForCondition(WebDriver driver, ExpectedCondition<?> condition, int timeoutInSeconds) {
+        try {
+            WaitFactory.get(driver, timeoutInSeconds).until(condition);
+            return true;
+        } catch (TimeoutException e) {
+            System.out.println("Condition not met within " + timeoutInSeconds + " seconds: " + condition);
+            return false;
+        }
+    }
+    
+    /**
+     * Waits until the browser has no request in flight for the quiet window of {@link NetworkIdleMonitor}
+     * Drivers without a monitor wait for the document to be ready and jQuery requests to finish instead.
+     * 
+     * @param driver WebDriver instance
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return true if the network became idle, false if the wait timed out
+     */
+    public static boolean waitForNetworkIdle(WebDriver driver, int timeoutInSeconds) {
+        NetworkIdleMonitor monitor = NetworkIdleMonitor.forDriver(driver);
+        if (monitor == null) {
+            return waitForCondition(driver, PageConditions.documentReady(), timeoutInSeconds);
+        }
+        return monitor.waitForIdle(NetworkIdleMonitor.getQuietWindow(), Duration.ofSeconds(timeoutInSeconds));
+    }
+    
+    /**
+     * Waits in the browser until an element matching a CSS selector is visible
+     * 
+     * @param driver WebDriver instance
+     * @param cssSelector CSS selector of the element
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return true if a matching element became visible, false if the wait timed out
+     */
+    public static boolean waitForSelectorVisible(WebDriver driver, String cssSelector, int timeoutInSeconds) {
+        return observe(driver, cssSelector, ObservedState.VISIBLE, timeoutInSeconds);
+    }
+    
+    /**
+     * Waits in the browser until an element matching a CSS selector is visible and enabled
+     * 
+     * @param driver WebDriver instance
+     * @param cssSelector CSS selector of the element
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return true if a matching element became clickable, false if the wait timed out
+     */
+    public static boolean waitForSelectorClickable(WebDriver driver, String cssSelector, int timeoutInSeconds) {
+        return observe(driver, cssSelector, ObservedState.CLICKABLE, timeoutInSeconds);
+    }
+    
+    /**
+     * Waits in the browser until no element matching a CSS selector is visible
+     * 
+     * @param driver WebDriver instance
+     * @param cssSelector CSS selector of the element
+     * @param timeoutInSeconds Maximum time to wait in seconds
+     * @return true if no matching element is visible anymore, false if the wait timed out
+     */
+    public static boolean waitForSelectorAbsent(WebDriver driver, String cssSelector, int timeoutInSeconds) {
+        return observe(driver, cssSelector, ObservedState.ABSENT, timeoutInSeconds);
+    }
+    
+    /**
+     * Waits for an element state with a MutationObserver in a single asynchronous script call
+     * Falls back to polling from Java when the script cannot finish, e.g. because the page navigated
+     * or the wait is longer than the driver's script timeout.
+     */
+    private static boolean observe(WebDriver driver, String cssSelector, ObservedState state, int timeoutInSeconds) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(timeoutInSeconds).toNanos();
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVE_SCRIPT,
+                    cssSelector, state.name().toLowerCase(Locale.ROOT), timeoutInSeconds * 1000L);
+            return Boolean.TRUE.equals(result);
+        } catch (ScriptTimeoutException | JavascriptException e) {
+            System.out.println("Observing '" + cssSelector + "' failed, polling instead: " + e.getMessage());
+            By locator = By.cssSelector(cssSelector);
+            switch (state) {
+                case CLICKABLE:
+                    return pollUntil(driver, ExpectedConditions.elementToBeClickable(locator), deadline);
+                case ABSENT:
+                    return pollUntil(driver, ExpectedConditions.invisibilityOfElementLocated(locator), deadline);
+                default:
+                    return pollUntil(driver, ExpectedConditions.visibilityOfElementLocated(locator), deadline);
+            }
+        }
+    }
+
+    /**
+     * Polls a condition until a deadline, checking it once more if the deadline has already passed
+     * The wait is not taken from WaitFactory because its timeout differs on every call.
+     */
+    private static boolean pollUntil(WebDriver driver, ExpectedCondition<?> condition, long deadline) {
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        try {
+            new WebDriverWait(driver, remaining, Duration.ofMillis(WaitFactory.getPollingMillis())).until(condition);
+            return true;
+        } catch (TimeoutException e) {
+            System.out.println("Condition not met within the remaining " + remaining.toMillis() + " ms: " + condition);
+            return false;
+        }
+    }
+    
+    /**
+     * Reads presence, visibility, selection, text and the given attributes of several elements
+     * in a single script call instead of several commands per element
+     * The value attribute is read from the current value of the element, like WebElement.getAttribute does.
+     * 
+     * @param driver WebDriver instance
+     * @param locators Locators of the elements by a key of the caller's choice
+     * @param attributes Names of the attributes to read
+     * @return State of each element by the same keys, in the same order
+     * @throws IllegalArgumentException if a locator cannot be evaluated in the browser
+     */
+    public static Map<String, ElementState> queryElementStates(WebDriver driver, Map<String, By> locators, String... attributes) {
+        Map<String, Object> queries = new LinkedHashMap<>();
+        locators.forEach((key, locator) -> {
+            if (!(locator instanceof By.Remotable)) {
+                throw new IllegalArgumentException("Locator cannot be evaluated in the browser: " + locator);
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            Map<String, Object> query = new HashMap<>();
+            query.put("using", parameters.using());
+            query.put("value", parameters.value());
+            queries.put(key, query);
+        });
+        
+        String result = (String) ((JavascriptExecutor) driver).executeScript(QUERY_STATES_SCRIPT, queries, Arrays.asList(attributes));
+        Map<String, Object> states = JSON.toType(result, Json.MAP_TYPE);
+        
+        Map<String, ElementState> elementStates = new LinkedHashMap<>();
+        for (String key : locators.keySet()) {
+            elementStates.put(key, toElementState((Map<?, ?>) states.get(key)));
+        }
+        return elementStates;
+    }
+    
+    private static ElementState toElementState(Map<?, ?> state) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        if (state.get("attributes") instanceof Map) {
+            ((Map<?, ?>) state.get("attributes")).forEach((name, value) ->
+                    attributes.put(String.valueOf(name), value == null ? null : String.valueOf(value)));
+        }
+        return new ElementState(
+                Boolean.TRUE.equals(state.get("present")),
+                Boolean.TRUE.equals(state.get("displayed")),
+                Boolean.TRUE.equals(state.get("selected")),
+                state.get("text") == null ? "" : String.valueOf(state.get("text")),
+                attributes);
     }
     
     /**
@@ -52,18 +307,19 @@ public class WebDriverUtils {
     }
     
     /**
-     * Takes a screenshot and saves it to a specified path
+     * Takes a screenshot, stores it once per distinct frame in the background and attaches it to the report
      * 
      * @param driver WebDriver instance
      * @param fileName Name of the screenshot file
+     * @return Path the screenshot is written to, or null if it could not be taken
      */
-    public static void takeScreenshot(WebDriver driver, String fileName) {
+    public static Path takeScreenshot(WebDriver driver, String fileName) {
         try {
-            org.openqa.selenium.OutputType<byte[]> outputType = org.openqa.selenium.OutputType.BYTES;
-            byte[] screenshot = ((org.openqa.selenium.TakesScreenshot) driver).getScreenshotAs(outputType);
-            java.nio.file.Files.write(java.nio.file.Paths.get("screenshots/" + fileName + ".png"), screenshot);
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            return ScreenshotStore.store(fileName, screenshot);
         } catch (Exception e) {
             System.err.println("Error taking screenshot: " + e.getMessage());
+            return null;
         }
     }
 }
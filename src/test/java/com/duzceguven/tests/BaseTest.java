@@ -1,43 +1,194 @@
 package com.duzceguven.tests;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.duzceguven.pages.BasePage;
+import com.duzceguven.util.FixtureServer;
+import com.duzceguven.utils.ChromeLaunchProfile;
+import com.duzceguven.utils.CommandLatencyListener;
+import com.duzceguven.utils.DriverBinaryResolver;
+import com.duzceguven.utils.DriverManager;
+import com.duzceguven.utils.DriverPool;
+import com.duzceguven.utils.LatencyRecorder;
+import com.duzceguven.utils.NetworkBlocker;
+import com.duzceguven.utils.NetworkIdleMonitor;
+import com.duzceguven.utils.ScreenshotStore;
+import com.duzceguven.utils.ScreenshotWriter;
+import com.duzceguven.utils.WaitPolicy;
+import com.duzceguven.utils.WebDriverUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 
-import java.time.Duration;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Base test class that handles WebDriver setup and teardown
+ * Drivers are taken from a pool shared by all test classes so browsers stay warm between tests
+ * and are bound to the running thread, so test methods and classes can run in parallel
+ * Every driver command is timed and a latency summary is written when the suite finishes
+ * With -Dsite.fixtures=true the tests run against a local stand-in of the site instead of the live one
+ * Analytics, ad and chat requests matching network-blocklist.txt are blocked and reported per test;
+ * use -Dnetwork.blocklist.file to change the list and -Dnetwork.blocking=false to turn blocking off
  */
 public class BaseTest {
-    
-    protected WebDriver driver;
-    
+
+    private static final String LATENCY_SUMMARY_FILE =
+            System.getProperty("latency.summary.file", "target/latency-summary.txt");
+
+    private static final int SCREENSHOT_FLUSH_TIMEOUT_SECONDS = 30;
+
+    private static final String NETWORK_BLOCKLIST_FILE =
+            System.getProperty("network.blocklist.file", "network-blocklist.txt");
+
+    private static final DriverPool DRIVER_POOL = new DriverPool(BaseTest::createDriver);
+
+    private static final ThreadLocal<NetworkBlocker> NETWORK_BLOCKER = new ThreadLocal<>();
+    private static final AtomicInteger BLOCKED_REQUESTS = new AtomicInteger();
+
+    private static FixtureServer fixtureServer;
+
+    @BeforeSuite(alwaysRun = true)
+    public void setUpSuite() {
+        if (Boolean.getBoolean("site.fixtures")) {
+            fixtureServer = FixtureServer.start();
+            System.setProperty(BasePage.BASE_URL_PROPERTY, fixtureServer.getBaseUrl());
+        }
+    }
+
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver()
-            .clearDriverCache()
-            .clearResolutionCache()
-            .driverVersion("latest")
-            .setup();
-        
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        
-        driver = new ChromeDriver(options);
-        
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        
-        driver.manage().deleteAllCookies();
+        DriverManager.setDriver(DRIVER_POOL.acquire());
+
+        NetworkBlocker blocker = NETWORK_BLOCKER.get();
+        if (blocker != null) {
+            blocker.reset();
+        }
+        NetworkIdleMonitor monitor = NetworkIdleMonitor.forDriver(getDriver());
+        if (monitor != null) {
+            monitor.reset();
+        }
     }
-    
+
     @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+    public void tearDown(ITestResult result) {
+        NetworkBlocker blocker = NETWORK_BLOCKER.get();
+        if (blocker != null) {
+            BLOCKED_REQUESTS.addAndGet(blocker.getBlockedRequests());
+            System.out.println("[network] " + result.getMethod().getMethodName() + ": " + blocker.getSummary());
+        }
+
+        DRIVER_POOL.release();
+        DriverManager.unload();
+    }
+
+    /**
+     * Gets the WebDriver of the thread running the current test
+     *
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+
+    /**
+     * Gets the base URL of the site under test
+     *
+     * @return Base URL of the live site or of the local fixture server
+     */
+    protected String getBaseUrl() {
+        return BasePage.getBaseUrl();
+    }
+
+    /**
+     * Checks if the tests run against the local fixture server instead of the live site
+     *
+     * @return true if started with -Dsite.fixtures=true
+     */
+    protected boolean isFixtureSite() {
+        return fixtureServer != null;
+    }
+
+    /**
+     * Waits until a page condition holds, continuing the test if it does not
+     *
+     * @param condition Condition to wait for
+     * @return true if the condition was met, false if the wait timed out
+     */
+    protected boolean waitFor(ExpectedCondition<?> condition) {
+        return WebDriverUtils.waitForCondition(getDriver(), condition, WaitPolicy.getPresenceTimeoutSeconds());
+    }
+
+    /**
+     * Waits until the browser has no request in flight, e.g. after starting a search
+     *
+     * @return true if the network became idle, false if the wait timed out
+     */
+    protected boolean waitForNetworkIdle() {
+        return WebDriverUtils.waitForNetworkIdle(getDriver(), WaitPolicy.getPresenceTimeoutSeconds());
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        System.out.println(DRIVER_POOL.getStatistics());
+        DRIVER_POOL.shutdown();
+        System.out.println("[network] blocked " + BLOCKED_REQUESTS.get() + " requests in the suite");
+
+        ScreenshotWriter.flush(SCREENSHOT_FLUSH_TIMEOUT_SECONDS);
+        System.out.println("Screenshots stored: " + ScreenshotStore.getStoredFrames()
+                + ", duplicate frames skipped: " + ScreenshotStore.getDuplicates());
+
+        System.out.println(LatencyRecorder.getSummary());
+        LatencyRecorder.writeSummary(Paths.get(LATENCY_SUMMARY_FILE));
+
+        if (fixtureServer != null) {
+            fixtureServer.stop();
+            fixtureServer = null;
+        }
+    }
+
+    private static WebDriver createDriver() {
+        DriverBinaryResolver.resolveChromeDriver();
+
+        ChromeOptions options = ChromeLaunchProfile.fromSystemProperty().toOptions();
+
+        ChromeDriver chromeDriver = new ChromeDriver(options);
+        attachNetworkBlocker(chromeDriver);
+
+        WebDriver driver = new EventFiringDecorator<>(new CommandLatencyListener())
+                .decorate(chromeDriver);
+        attachNetworkIdleMonitor(driver, chromeDriver);
+
+        WaitPolicy.disableImplicitWait(driver);
+
+        driver.manage().deleteAllCookies();
+
+        return driver;
+    }
+
+    private static void attachNetworkBlocker(ChromeDriver driver) {
+        NETWORK_BLOCKER.remove();
+        if (!Boolean.parseBoolean(System.getProperty("network.blocking", "true"))) {
+            return;
+        }
+        try {
+            NETWORK_BLOCKER.set(NetworkBlocker.attach(driver, NetworkBlocker.loadPatterns(NETWORK_BLOCKLIST_FILE)));
+        } catch (Exception e) {
+            System.out.println("Could not enable request blocking, continuing without it: " + e.getMessage());
+        }
+    }
+
+    private static void attachNetworkIdleMonitor(WebDriver driver, ChromeDriver chromeDriver) {
+        try {
+            NetworkIdleMonitor.attach(driver, chromeDriver);
+        } catch (Exception e) {
+            System.out.println("Could not track network activity, network idle waits use document ready: " + e.getMessage());
         }
     }
 }
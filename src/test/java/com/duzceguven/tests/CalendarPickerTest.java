@@ -1,5 +1,9 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -14,7 +18,6 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
 import java.util.List;
 
 /**
@@ -29,20 +32,20 @@ public class CalendarPickerTest extends BaseTest {
     @Description("Test verifies that a user can click on the date field and select a specific date from the calendar picker")
     @Severity(SeverityLevel.CRITICAL)
     public void testDateSelection() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         
         handleCookieConsent();
         
-        sleep(3000);
+        waitFor(PageConditions.documentReady());
         
         openDatePickerAndSelectDate(19);
     }
     
     private void handleCookieConsent() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             System.out.println("Closed cookie consent popup");
         } catch (Exception e) {
@@ -53,12 +56,11 @@ public class CalendarPickerTest extends BaseTest {
     @Step("Open date picker and select date: {day}")
     private void openDatePickerAndSelectDate(int day) {
         try {
-            sleep(3000);
             
             WebElement dateField = null;
             
             try {
-                dateField = driver.findElement(By.cssSelector("input.form-control.datepicker"));
+                dateField = getDriver().findElement(By.cssSelector("input.form-control.datepicker"));
                 System.out.println("Found date field using class selector");
             } catch (Exception e) {
                 System.out.println("Could not find date field using class selector: " + e.getMessage());
@@ -66,7 +68,7 @@ public class CalendarPickerTest extends BaseTest {
             
             if (dateField == null) {
                 try {
-                    dateField = driver.findElement(By.xpath("
+                    dateField = getDriver().findElement(By.xpath("//label[contains(text(), 'Tarih')]/following::input[1]"));
                     System.out.println("Found date field using label selector");
                 } catch (Exception e) {
                     System.out.println("Could not find date field using label selector: " + e.getMessage());
@@ -75,7 +77,7 @@ public class CalendarPickerTest extends BaseTest {
             
             if (dateField == null) {
                 try {
-                    List<WebElement> inputFields = driver.findElements(By.tagName("input"));
+                    List<WebElement> inputFields = getDriver().findElements(By.tagName("input"));
                     if (inputFields.size() >= 3) {
                         dateField = inputFields.get(2);
                         System.out.println("Found date field by position in form");
@@ -94,12 +96,12 @@ public class CalendarPickerTest extends BaseTest {
                 } catch (Exception e) {
                     System.out.println("Regular click failed, trying JavaScript click: " + e.getMessage());
                     
-                    JavascriptExecutor js = (JavascriptExecutor) driver;
+                    JavascriptExecutor js = (JavascriptExecutor) getDriver();
                     js.executeScript("arguments[0].click();", dateField);
                     System.out.println("Clicked date field with JavaScript");
                 }
                 
-                sleep(1500);
+                waitFor(PageConditions.datepickerOpen());
                 
                 selectDayFromCalendar(day);
             } else {
@@ -115,7 +117,7 @@ public class CalendarPickerTest extends BaseTest {
         try {
             System.out.println("Attempting to select day " + day + " from calendar");
             
-            List<WebElement> dayCells = driver.findElements(By.cssSelector("td.day"));
+            List<WebElement> dayCells = getDriver().findElements(By.cssSelector("td.day"));
             System.out.println("Found " + dayCells.size() + " day cells");
             
             WebElement targetDay = null;
@@ -134,14 +136,14 @@ public class CalendarPickerTest extends BaseTest {
                 } catch (Exception e) {
                     System.out.println("Regular click failed, trying JavaScript click: " + e.getMessage());
                     
-                    JavascriptExecutor js = (JavascriptExecutor) driver;
+                    JavascriptExecutor js = (JavascriptExecutor) getDriver();
                     js.executeScript("arguments[0].click();", targetDay);
                     System.out.println("Clicked day " + day + " with JavaScript");
                 }
             } else {
                 System.out.println("Could not find day cell for day " + day);
                 
-                JavascriptExecutor js = (JavascriptExecutor) driver;
+                JavascriptExecutor js = (JavascriptExecutor) getDriver();
                 String jsScript = 
                     "var days = document.querySelectorAll('td.day');" +
                     "for (var i=0; i < days.length; i++) {" +
@@ -156,19 +158,11 @@ public class CalendarPickerTest extends BaseTest {
                 System.out.println("JavaScript day selection result: " + result);
             }
             
-            sleep(2000);
+            waitFor(PageConditions.datepickerClosed());
             
         } catch (Exception e) {
             System.out.println("Error selecting day from calendar: " + e.getMessage());
             e.printStackTrace();
         }
     }
-    
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
 }
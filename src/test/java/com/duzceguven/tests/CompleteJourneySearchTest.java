@@ -1,6 +1,10 @@
 package com.duzceguven.tests;
 
 import com.duzceguven.util.DatePickerUtil;
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -8,7 +12,6 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Step;
 import io.qameta.allure.Story;
-import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -16,8 +19,6 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
-
 /**
  * Complete journey search test for the Düzce Güven website
  * Selects departure and arrival locations, selects a date, and clicks the search button
@@ -39,7 +40,7 @@ public class CompleteJourneySearchTest extends BaseTest {
         boolean arrivalSelected = selectArrivalLocation("Düzce");
         Assert.assertTrue(arrivalSelected, "Failed to select arrival location");
         
-        boolean dateSelected = DatePickerUtil.selectDate(driver, 19);
+        boolean dateSelected = DatePickerUtil.selectDate(getDriver(), 19);
         Assert.assertTrue(dateSelected, "Failed to select date");
         
         boolean searchClicked = clickSearchButton();
@@ -52,28 +53,28 @@ public class CompleteJourneySearchTest extends BaseTest {
     
     @Step("Navigate to Düzce Güven website")
     private void navigateToWebsite() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         logInfo("Navigated to Düzce Güven website");
         
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             logInfo("Closed cookie consent popup");
         } catch (Exception e) {
             logInfo("Cookie popup not found or could not be closed: " + e.getMessage());
         }
         
-        sleep(3000);
+        waitFor(PageConditions.documentReady());
     }
     
     @Step("Select departure location: {location}")
     private boolean selectDepartureLocation(String location) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement departureField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.departureField")));
             
             departureField.click();
             logInfo("Clicked on departure field");
@@ -82,10 +83,8 @@ public class CompleteJourneySearchTest extends BaseTest {
             departureField.sendKeys(location);
             logInfo("Entered departure location: " + location);
             
-            sleep(1500);
-            
             WebElement departureOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.dropdownOption", location)));
             departureOption.click();
             logInfo("Selected departure location from dropdown: " + location);
             
@@ -94,7 +93,7 @@ public class CompleteJourneySearchTest extends BaseTest {
             logInfo("Error selecting departure location: " + e.getMessage());
             
             try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
+                JavascriptExecutor js = (JavascriptExecutor) getDriver();
                 Boolean result = (Boolean) js.executeScript(
                     "var inputs = document.querySelectorAll('input');" +
                     "for(var i=0; i<inputs.length; i++) {" +
@@ -122,9 +121,9 @@ public class CompleteJourneySearchTest extends BaseTest {
     @Step("Select arrival location: {location}")
     private boolean selectArrivalLocation(String location) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement arrivalField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.arrivalField")));
             
             arrivalField.click();
             logInfo("Clicked on arrival field");
@@ -133,10 +132,8 @@ public class CompleteJourneySearchTest extends BaseTest {
             arrivalField.sendKeys(location);
             logInfo("Entered arrival location: " + location);
             
-            sleep(1500);
-            
             WebElement arrivalOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.dropdownOption", location)));
             arrivalOption.click();
             logInfo("Selected arrival location from dropdown: " + location);
             
@@ -145,7 +142,7 @@ public class CompleteJourneySearchTest extends BaseTest {
             logInfo("Error selecting arrival location: " + e.getMessage());
             
             try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
+                JavascriptExecutor js = (JavascriptExecutor) getDriver();
                 Boolean result = (Boolean) js.executeScript(
                     "var inputs = document.querySelectorAll('input');" +
                     "for(var i=0; i<inputs.length; i++) {" +
@@ -173,9 +170,9 @@ public class CompleteJourneySearchTest extends BaseTest {
     @Step("Click search button")
     private boolean clickSearchButton() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.searchButton")));
             
             searchButton.click();
             logInfo("Clicked search button");
@@ -185,7 +182,7 @@ public class CompleteJourneySearchTest extends BaseTest {
             logInfo("Error clicking search button: " + e.getMessage());
             
             try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
+                JavascriptExecutor js = (JavascriptExecutor) getDriver();
                 Boolean result = (Boolean) js.executeScript(
                     "var buttons = document.querySelectorAll('button');" +
                     "for(var i=0; i<buttons.length; i++) {" +
@@ -211,12 +208,13 @@ public class CompleteJourneySearchTest extends BaseTest {
     @Step("Verify search results")
     private void verifySearchResults() {
         try {
-            sleep(5000);
+            waitForNetworkIdle();
             
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             boolean resultsDisplayed = wait.until(ExpectedConditions.or(
-                ExpectedConditions.presenceOfElementLocated(By.xpath("
-                ExpectedConditions.presenceOfElementLocated(By.xpath("
+                PageConditions.searchResultsLoaded(),
+                ExpectedConditions.presenceOfElementLocated(Locators.get("home.searchResults")),
+                ExpectedConditions.presenceOfElementLocated(Locators.get("home.journeyTable")),
                 ExpectedConditions.urlContains("search")
             ));
             
@@ -230,14 +228,6 @@ public class CompleteJourneySearchTest extends BaseTest {
         }
     }
     
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
-    
     private void logInfo(String message) {
         System.out.println("[INFO] " + message);
     }
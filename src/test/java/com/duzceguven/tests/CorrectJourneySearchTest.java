@@ -1,6 +1,11 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.pages.Select2Dropdown;
 import com.duzceguven.util.DatePickerUtil;
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -15,8 +20,6 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
-
 /**
  * Correct journey search test for the Düzce Güven website
  * Selects Zonguldak as departure, Düzce as arrival, and 20/03/2025 as journey date
@@ -40,21 +43,21 @@ public class CorrectJourneySearchTest extends BaseTest {
         
         clickSearchButtonJS();
         
-        sleep(5000);
+        waitForNetworkIdle();
         
         logInfo("Journey search test from ZONGULDAK to DÜZCE on 20/03/2025 completed");
     }
     
     @Step("Navigate to Düzce Güven website")
     private void navigateToWebsite() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         logInfo("Navigated to Düzce Güven website");
         
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             logInfo("Closed cookie consent popup");
         } catch (Exception e) {
@@ -62,147 +65,24 @@ public class CorrectJourneySearchTest extends BaseTest {
         }
         
 
-        sleep(3000);
+        waitFor(PageConditions.documentReady());
     }
     
-    @Step("Select departure location: ZONGULDAK using Select2")
+    @Step("Select departure location: {location} using Select2")
     private void selectDepartureLocationSelect2(String location) {
-        try {
-
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            WebElement departureSelect = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
-            departureSelect.click();
-            logInfo("Clicked on departure dropdown");
-            
-            sleep(1000);
-            
-
-            WebElement zonguldakOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.id("select2-departure-result-0jho-6700")));
-            zonguldakOption.click();
-            logInfo("Selected ZONGULDAK from dropdown");
-            
-
-            if (!isElementSelected("select2-departure-result-0jho-6700")) {
-                WebElement departureOption = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("
-                departureOption.click();
-                logInfo("Selected ZONGULDAK by text content");
-            }
-            
-            if (!isElementSelected("select2-departure-result-0jho-6700")) {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript(
-                    "var options = document.querySelectorAll('.select2-results__option');" +
-                    "for (var i = 0; i < options.length; i++) {" +
-                    "  if (options[i].textContent.includes('ZONGULDAK')) {" +
-                    "    options[i].click();" +
-                    "    break;" +
-                    "  }" +
-                    "}");
-                logInfo("Selected ZONGULDAK using JavaScript");
-            }
-            
-        } catch (Exception e) {
-            logInfo("Error selecting departure location: " + e.getMessage());
-            
-            try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript(
-                    "var selects = document.querySelectorAll('select');" +
-                    "for (var i = 0; i < selects.length; i++) {" +
-                    "  if (selects[i].id === 'departure' || selects[i].name === 'departure') {" +
-                    "    for (var j = 0; j < selects[i].options.length; j++) {" +
-                    "      if (selects[i].options[j].text.includes('ZONGULDAK')) {" +
-                    "        selects[i].options[j].selected = true;" +
-                    "        var event = new Event('change', { 'bubbles': true });" +
-                    "        selects[i].dispatchEvent(event);" +
-                    "        break;" +
-                    "      }" +
-                    "    }" +
-                    "  }" +
-                    "}");
-                logInfo("Selected ZONGULDAK using fallback JavaScript method");
-            } catch (Exception jsError) {
-                logInfo("JavaScript fallback also failed: " + jsError.getMessage());
-            }
-        }
-    }
-    
-    private boolean isElementSelected(String elementId) {
-        try {
-            WebElement element = driver.findElement(By.id(elementId));
-            return element.isSelected() || element.getAttribute("aria-selected").equals("true");
-        } catch (Exception e) {
-            return false;
+        if (new Select2Dropdown(getDriver(), "departure").select(location)) {
+            logInfo("Selected " + location + " as departure location");
+        } else {
+            logInfo("Could not select departure location: " + location);
         }
     }
     
-    @Step("Select arrival location: DÜZCE using Select2")
+    @Step("Select arrival location: {location} using Select2")
     private void selectArrivalLocationSelect2(String location) {
-        try {
-
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            WebElement arrivalSelect = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
-            arrivalSelect.click();
-            logInfo("Clicked on arrival dropdown");
-            
-            sleep(1000);
-            
-
-            WebElement duzceOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.id("select2-arrival-result-wbm1-8100")));
-            duzceOption.click();
-            logInfo("Selected DÜZCE from dropdown");
-            
-
-            if (!isElementSelected("select2-arrival-result-wbm1-8100")) {
-                WebElement arrivalOption = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("
-                arrivalOption.click();
-                logInfo("Selected DÜZCE by text content");
-            }
-            
-            if (!isElementSelected("select2-arrival-result-wbm1-8100")) {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript(
-                    "var options = document.querySelectorAll('.select2-results__option');" +
-                    "for (var i = 0; i < options.length; i++) {" +
-                    "  if (options[i].textContent.includes('DÜZCE')) {" +
-                    "    options[i].click();" +
-                    "    break;" +
-                    "  }" +
-                    "}");
-                logInfo("Selected DÜZCE using JavaScript");
-            }
-            
-        } catch (Exception e) {
-            logInfo("Error selecting arrival location: " + e.getMessage());
-            
-            try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript(
-                    "var selects = document.querySelectorAll('select');" +
-                    "for (var i = 0; i < selects.length; i++) {" +
-                    "  if (selects[i].id === 'arrival' || selects[i].name === 'arrival') {" +
-                    "    for (var j = 0; j < selects[i].options.length; j++) {" +
-                    "      if (selects[i].options[j].text.includes('DÜZCE')) {" +
-                    "        selects[i].options[j].selected = true;" +
-                    "        var event = new Event('change', { 'bubbles': true });" +
-                    "        selects[i].dispatchEvent(event);" +
-                    "        break;" +
-                    "      }" +
-                    "    }" +
-                    "  }" +
-                    "}");
-                logInfo("Selected DÜZCE using fallback JavaScript method");
-            } catch (Exception jsError) {
-                logInfo("JavaScript fallback also failed: " + jsError.getMessage());
-            }
+        if (new Select2Dropdown(getDriver(), "arrival").select(location)) {
+            logInfo("Selected " + location + " as arrival location");
+        } else {
+            logInfo("Could not select arrival location: " + location);
         }
     }
     
@@ -210,7 +90,7 @@ public class CorrectJourneySearchTest extends BaseTest {
     private void selectDate(String dateString) {
         try {
 
-            boolean dateSelected = DatePickerUtil.selectDate(driver, 20);
+            boolean dateSelected = DatePickerUtil.selectDate(getDriver(), 20);
             
             if (dateSelected) {
                 logInfo("Selected date 20/03/2025 using DatePickerUtil");
@@ -218,15 +98,15 @@ public class CorrectJourneySearchTest extends BaseTest {
             }
             
 
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
 
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement dateField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.dateField")));
             dateField.click();
             logInfo("Clicked on date field");
-            sleep(1000);
+            waitFor(PageConditions.datepickerOpen());
             
 
             Boolean dateSet = (Boolean) js.executeScript(
@@ -244,7 +124,7 @@ public class CorrectJourneySearchTest extends BaseTest {
             } else {
 
                 WebElement dateElement = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("
+                        By.xpath("//div[contains(@class, 'datepicker-days')]//td[contains(@class, 'day') and text()='20']")));
                 dateElement.click();
                 logInfo("Selected date from calendar: 20/03/2025");
             }
@@ -253,7 +133,7 @@ public class CorrectJourneySearchTest extends BaseTest {
             logInfo("Error selecting date: " + e.getMessage());
 
             try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
+                JavascriptExecutor js = (JavascriptExecutor) getDriver();
                 js.executeScript(
                     "var inputs = document.querySelectorAll('input');" +
                     "for (var i = 0; i < inputs.length; i++) {" +
@@ -275,7 +155,7 @@ public class CorrectJourneySearchTest extends BaseTest {
     @Step("Click search button using JavaScript")
     private void clickSearchButtonJS() {
         try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
 
             String script = 
@@ -316,14 +196,6 @@ public class CorrectJourneySearchTest extends BaseTest {
         }
     }
     
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
-    
     private void logInfo(String message) {
         System.out.println("[INFO] " + message);
     }
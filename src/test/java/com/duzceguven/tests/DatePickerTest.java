@@ -1,5 +1,10 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
+import com.duzceguven.utils.WebDriverUtils;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -14,7 +19,6 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
 import java.util.List;
 
 /**
@@ -29,20 +33,20 @@ public class DatePickerTest extends BaseTest {
     @Description("Test verifies that a user can select a specific date from the calendar")
     @Severity(SeverityLevel.CRITICAL)
     public void testDatePicker() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         
         handleCookieConsent();
         
-        sleep(3000);
+        waitFor(PageConditions.documentReady());
         
         selectDateFromCalendar(19);
     }
     
     private void handleCookieConsent() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             System.out.println("Closed cookie consent popup");
         } catch (Exception e) {
@@ -54,24 +58,24 @@ public class DatePickerTest extends BaseTest {
     private void selectDateFromCalendar(int day) {
         try {
             System.out.println("Attempting to click on date field");
-            WebElement dateField = driver.findElement(By.xpath("
+            WebElement dateField = getDriver().findElement(Locators.get("home.dateField"));
             
             takeScreenshot("before_date_click");
             
-            JavascriptExecutor executor = (JavascriptExecutor) driver;
+            JavascriptExecutor executor = (JavascriptExecutor) getDriver();
             executor.executeScript("arguments[0].click();", dateField);
             System.out.println("Clicked on date field using JavaScript");
             
-            sleep(2000);
+            waitFor(PageConditions.datepickerOpen());
             
             takeScreenshot("calendar_opened");
             
-            WebElement datePickerContainer = driver.findElement(By.xpath("
+            WebElement datePickerContainer = getDriver().findElement(Locators.get("home.calendar"));
             
             if (datePickerContainer != null) {
                 System.out.println("Date picker container found");
                 
-                List<WebElement> dayElements = datePickerContainer.findElements(By.xpath(".
+                List<WebElement> dayElements = datePickerContainer.findElements(By.xpath(".//td[contains(@class, 'day')]"));
                 System.out.println("Found " + dayElements.size() + " day elements");
                 
                 WebElement dayToSelect = null;
@@ -91,7 +95,7 @@ public class DatePickerTest extends BaseTest {
                     executor.executeScript("arguments[0].click();", dayToSelect);
                     System.out.println("Successfully clicked day " + day + " with JavaScript");
                     
-                    sleep(1000);
+                    waitFor(PageConditions.datepickerClosed());
                     takeScreenshot("after_day_click");
                 } else {
                     System.out.println("Could not find the day element for day " + day);
@@ -119,18 +123,7 @@ public class DatePickerTest extends BaseTest {
     }
     
     private void takeScreenshot(String name) {
-        try {
-            System.out.println("Taking screenshot: " + name);
-        } catch (Exception e) {
-            System.out.println("Could not take screenshot: " + e.getMessage());
-        }
-    }
-    
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        System.out.println("Taking screenshot: " + name);
+        WebDriverUtils.takeScreenshot(getDriver(), name);
     }
 }
@@ -0,0 +1,66 @@
+package com.duzceguven.tests;
+
+import com.duzceguven.utils.DriverBinaryResolver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Test class for finding the ChromeDriver binary in a local driver cache
+ */
+public class DriverBinaryResolverTest {
+
+    private Path cacheDir;
+
+    @BeforeMethod
+    public void createCacheDir() throws IOException {
+        cacheDir = Files.createTempDirectory("driver-cache");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteCacheDir() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testDirectoriesNamedChromedriverAreSkipped() throws IOException {
+        Path binary = createBinary(cacheDir.resolve("chromedriver/linux64/120.0.6099.109/chromedriver"));
+        Files.createDirectories(cacheDir.resolve("chromedriver/linux64/121.0.6167.85/chromedriver"));
+
+        Optional<Path> found = DriverBinaryResolver.findCachedBinary(cacheDir);
+
+        Assert.assertEquals(found.orElse(null), binary);
+    }
+
+    @Test
+    public void testNewestBinaryIsChosen() throws IOException {
+        createBinary(cacheDir.resolve("chromedriver/linux64/119.0.6045.105/chromedriver"));
+        Path newest = createBinary(cacheDir.resolve("chromedriver/linux64/120.0.6099.109/chromedriver"));
+
+        Assert.assertEquals(DriverBinaryResolver.findCachedBinary(cacheDir).orElse(null), newest);
+    }
+
+    @Test
+    public void testCacheWithoutBinary() throws IOException {
+        Files.createDirectories(cacheDir.resolve("chromedriver/linux64/120.0.6099.109/chromedriver"));
+
+        Assert.assertFalse(DriverBinaryResolver.findCachedBinary(cacheDir).isPresent());
+    }
+
+    private static Path createBinary(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[0]);
+        Assert.assertTrue(path.toFile().setExecutable(true), "Could not make " + path + " executable");
+        return path;
+    }
+}
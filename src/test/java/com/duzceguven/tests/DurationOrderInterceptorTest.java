@@ -0,0 +1,157 @@
+package com.duzceguven.tests;
+
+import com.duzceguven.util.DurationOrderInterceptor;
+import com.duzceguven.util.TimingHistory;
+import com.duzceguven.util.TimingHistoryListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Test class for splitting the suite into shards by recorded test durations
+ */
+public class DurationOrderInterceptorTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    @Test
+    public void testMethodsWithoutHistoryAreSpreadOverAllShards() {
+        Map<String, Integer> assignments = DurationOrderInterceptor.assignShards(Collections.emptyMap(), SHARD_COUNT);
+
+        int[] methodsPerShard = new int[SHARD_COUNT];
+        for (String key : getTestKeys(12)) {
+            int shard = DurationOrderInterceptor.getShard(key, assignments, SHARD_COUNT);
+            Assert.assertTrue(shard >= 0 && shard < SHARD_COUNT, "Shard out of range for " + key + ": " + shard);
+            Assert.assertEquals(DurationOrderInterceptor.getShard(key, assignments, SHARD_COUNT), shard,
+                    "Shard of " + key + " is not stable");
+            methodsPerShard[shard]++;
+        }
+
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Assert.assertTrue(methodsPerShard[shard] > 0, "Shard " + shard + " got no methods");
+        }
+    }
+
+    @Test
+    public void testMethodsWithHistoryAreBalancedByDuration() {
+        Map<String, Long> history = new HashMap<>();
+        List<String> keys = getTestKeys(6);
+        long[] durations = {9000, 7000, 5000, 4000, 3000, 2000};
+        for (int i = 0; i < keys.size(); i++) {
+            history.put(keys.get(i), durations[i]);
+        }
+
+        Map<String, Integer> assignments = DurationOrderInterceptor.assignShards(history, SHARD_COUNT);
+
+        long[] shardMillis = new long[SHARD_COUNT];
+        for (Map.Entry<String, Long> entry : history.entrySet()) {
+            shardMillis[DurationOrderInterceptor.getShard(entry.getKey(), assignments, SHARD_COUNT)] += entry.getValue();
+        }
+        for (long millis : shardMillis) {
+            Assert.assertTrue(millis >= 9000 && millis <= 11000, "Shards are not balanced: " + millis + " ms");
+        }
+    }
+
+    @Test
+    public void testShardsStartedAfterOthersFinishedStayDisjoint() throws IOException {
+        Path dir = Files.createTempDirectory("timing-history");
+        Path historyFile = dir.resolve("timing-history.jsonl");
+        List<String> keys = getTestKeys(6);
+        new TimingHistory(historyFile).append("suite", getDurations(keys, 9000, 7000, 5000, 4000, 3000, 2000), Collections.emptyMap());
+
+        Properties saved = (Properties) System.getProperties().clone();
+        try {
+            System.setProperty("timing.history.file", historyFile.toString());
+            System.setProperty("shard.count", "2");
+
+            System.setProperty("shard.index", "0");
+            List<String> firstShard = getShardKeys(keys, 0);
+            TimingHistory.forRecording().append("suite", getDurations(keys, 100, 200, 30000, 40000, 50000, 60000),
+                    Collections.emptyMap());
+            Assert.assertNotEquals(TimingHistory.forRecording().getFile(), historyFile,
+                    "Shard run was recorded in the history the shards are split by");
+
+            System.setProperty("shard.index", "1");
+            List<String> secondShard = getShardKeys(keys, 1);
+
+            List<String> allKeys = new ArrayList<>(firstShard);
+            allKeys.addAll(secondShard);
+            Collections.sort(allKeys);
+            List<String> expected = new ArrayList<>(keys);
+            Collections.sort(expected);
+            Assert.assertEquals(allKeys, expected, "Shards overlap or miss methods: " + firstShard + " / " + secondShard);
+        } finally {
+            System.setProperties(saved);
+            deleteDir(dir);
+        }
+    }
+
+    @Test
+    public void testPinnedSnapshotIsUsedInsteadOfTheGrowingHistory() throws IOException {
+        Path dir = Files.createTempDirectory("timing-history");
+        Path snapshotFile = dir.resolve("snapshot.jsonl");
+        Path historyFile = dir.resolve("timing-history.jsonl");
+        List<String> keys = getTestKeys(6);
+        new TimingHistory(snapshotFile).append("suite", getDurations(keys, 9000, 7000, 5000, 4000, 3000, 2000), Collections.emptyMap());
+
+        Properties saved = (Properties) System.getProperties().clone();
+        try {
+            System.setProperty("shard.history.file", snapshotFile.toString());
+            System.setProperty("timing.history.file", historyFile.toString());
+
+            Map<String, Integer> before = DurationOrderInterceptor.assignShards(DurationOrderInterceptor.readHistory(), SHARD_COUNT);
+            new TimingHistory(historyFile).append("suite", getDurations(keys, 100, 200, 30000, 40000, 50000, 60000),
+                    Collections.emptyMap());
+            Map<String, Integer> after = DurationOrderInterceptor.assignShards(DurationOrderInterceptor.readHistory(), SHARD_COUNT);
+
+            Assert.assertEquals(after, before, "Split changed although the snapshot is pinned");
+        } finally {
+            System.setProperties(saved);
+            deleteDir(dir);
+        }
+    }
+
+    private static List<String> getShardKeys(List<String> keys, int shard) {
+        Map<String, Integer> assignments = DurationOrderInterceptor.assignShards(DurationOrderInterceptor.readHistory(), 2);
+        List<String> shardKeys = new ArrayList<>();
+        for (String key : keys) {
+            if (DurationOrderInterceptor.getShard(key, assignments, 2) == shard) {
+                shardKeys.add(key);
+            }
+        }
+        return shardKeys;
+    }
+
+    private static Map<String, List<Long>> getDurations(List<String> keys, long... millis) {
+        Map<String, List<Long>> durations = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            durations.put(keys.get(i), Collections.singletonList(millis[i]));
+        }
+        return durations;
+    }
+
+    private static void deleteDir(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> file.toFile().delete());
+        }
+        Files.delete(dir);
+    }
+
+    private static List<String> getTestKeys(int count) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            keys.add(TimingHistoryListener.getTestKey(RouteMatrixTest.class.getName(), "testRoute" + i));
+        }
+        return keys;
+    }
+}
@@ -1,5 +1,9 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -7,14 +11,11 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Step;
 import io.qameta.allure.Story;
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
-
 /**
  * Test class for searching bus journeys on the Düzce Güven website with Allure reporting
  */
@@ -36,12 +37,12 @@ public class DuzceGuvenAllureTest extends BaseTest {
     
     @Step("Navigate to Düzce Güven website")
     private void navigateToWebsite() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             System.out.println("Closed cookie consent popup");
         } catch (Exception e) {
@@ -53,27 +54,21 @@ public class DuzceGuvenAllureTest extends BaseTest {
     
     @Step("Wait for page to load")
     private void waitForPageToLoad() {
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        waitFor(PageConditions.documentReady());
     }
     
     @Step("Select departure location: {location}")
     private void selectDepartureLocation(String location) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement departureField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.departureField")));
             departureField.click();
             departureField.clear();
             departureField.sendKeys(location);
             
-            Thread.sleep(1000);
-            
             WebElement departureOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.dropdownOption", location)));
             departureOption.click();
             System.out.println("Selected departure location: " + location);
         } catch (Exception e) {
@@ -84,17 +79,15 @@ public class DuzceGuvenAllureTest extends BaseTest {
     @Step("Select arrival location: {location}")
     private void selectArrivalLocation(String location) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement arrivalField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.arrivalField")));
             arrivalField.click();
             arrivalField.clear();
             arrivalField.sendKeys(location);
             
-            Thread.sleep(1000);
-            
             WebElement arrivalOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.dropdownOption", location)));
             arrivalOption.click();
             System.out.println("Selected arrival location: " + location);
         } catch (Exception e) {
@@ -105,16 +98,16 @@ public class DuzceGuvenAllureTest extends BaseTest {
     @Step("Select date: {day}")
     private void selectDate(int day) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement dateField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.dateField")));
             dateField.click();
             
             wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("
+                    Locators.get("home.calendar")));
             
             WebElement dateElement = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.calendarDay", day)));
             dateElement.click();
             System.out.println("Selected date: " + day);
         } catch (Exception e) {
@@ -125,13 +118,13 @@ public class DuzceGuvenAllureTest extends BaseTest {
     @Step("Click search button and wait for results")
     private void clickSearchButton() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.searchButton")));
             searchButton.click();
             System.out.println("Clicked search button");
             
-            Thread.sleep(5000);
+            waitForNetworkIdle();
         } catch (Exception e) {
             System.out.println("Could not click search button: " + e.getMessage());
         }
@@ -1,8 +1,16 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.model.ElementState;
+import com.duzceguven.model.Journey;
 import com.duzceguven.pages.DuzceGuvenHomePage;
+import com.duzceguven.pages.SearchResultsPage;
+import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Test class for searching bus journeys on the Düzce Güven website
  */
@@ -10,7 +18,7 @@ public class DuzceGuvenSearchTest extends BaseTest {
     
     @Test
     public void testSearchJourneyFromAnkaraToDuzce() {
-        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage(driver);
+        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage();
         
         homePage.goToHomePage();
         
@@ -20,13 +28,18 @@ public class DuzceGuvenSearchTest extends BaseTest {
         
         homePage.selectDate(20, 3, 2025);
         
+        Map<String, ElementState> form = homePage.getSearchFormState();
+        Assert.assertTrue(form.get("date").isPresent() && !form.get("date").getAttribute("value").isEmpty(),
+                "Date not selected: " + form.get("date"));
+        Assert.assertTrue(form.get("searchButton").isDisplayed(), "Search button not shown: " + form.get("searchButton"));
+        
         homePage.clickSearchButton();
         
     }
     
     @Test
     public void testSearchJourneyUsingChainedMethods() {
-        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage(driver);
+        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage();
         
         homePage.goToHomePage()
                 .selectDepartureLocation("Ankara")
@@ -38,11 +51,34 @@ public class DuzceGuvenSearchTest extends BaseTest {
     
     @Test
     public void testSearchJourneyUsingConvenienceMethod() {
-        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage(driver);
+        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage();
         
         homePage.goToHomePage();
         
         homePage.searchJourney("Ankara", "Düzce", 20, 3, 2025);
         
     }
+    
+    /**
+     * Reads the results through SearchResultsPage, whose selectors are only confirmed on the fixture site
+     */
+    @Test
+    public void testSearchResultsOnFixtureSite() {
+        if (!isFixtureSite()) {
+            throw new SkipException("Search results selectors are only confirmed on the fixture site, run with -Dsite.fixtures=true");
+        }
+        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage();
+        
+        homePage.goToHomePage();
+        
+        homePage.searchJourney("Ankara", "Düzce", 20, 3, 2025);
+        
+        SearchResultsPage results = homePage.getSearchResults();
+        List<Journey> journeys = results.getJourneys();
+        
+        Assert.assertTrue(!journeys.isEmpty() || results.hasNoResults(), "Search results were not shown");
+        for (Journey journey : journeys) {
+            Assert.assertNotNull(journey.getDepartureTime(), "Journey without departure time: " + journey);
+        }
+    }
 }
@@ -1,5 +1,9 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -15,7 +19,6 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
 import java.util.List;
 
 /**
@@ -31,12 +34,12 @@ public class EnhancedCalendarTest extends BaseTest {
     @Description("Test uses multiple strategies to find and interact with the date picker")
     @Severity(SeverityLevel.CRITICAL)
     public void testEnhancedDateSelection() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         logInfo("Navigated to website");
         
         handleCookieConsent();
         
-        sleep(3000);
+        waitFor(PageConditions.documentReady());
         
         if (clickOnDateField()) {
             logInfo("Successfully clicked on date field");
@@ -52,9 +55,9 @@ public class EnhancedCalendarTest extends BaseTest {
     
     private void handleCookieConsent() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             logInfo("Closed cookie consent popup");
         } catch (Exception e) {
@@ -65,7 +68,7 @@ public class EnhancedCalendarTest extends BaseTest {
     @Step("Click on date field")
     private boolean clickOnDateField() {
         try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
             logInfo("Attempting to find date field by placeholder");
             Boolean foundByPlaceholder = (Boolean) js.executeScript(
@@ -80,7 +83,7 @@ public class EnhancedCalendarTest extends BaseTest {
             
             if (foundByPlaceholder) {
                 logInfo("Found and clicked date field by placeholder");
-                sleep(1000);
+                waitFor(PageConditions.datepickerOpen());
                 return true;
             }
             
@@ -98,7 +101,7 @@ public class EnhancedCalendarTest extends BaseTest {
             
             if (foundByClass) {
                 logInfo("Found and clicked date field by datepicker class");
-                sleep(1000);
+                waitFor(PageConditions.datepickerOpen());
                 return true;
             }
             
@@ -126,7 +129,7 @@ public class EnhancedCalendarTest extends BaseTest {
             
             if (foundByIcon) {
                 logInfo("Found and clicked date field by calendar icon");
-                sleep(1000);
+                waitFor(PageConditions.datepickerOpen());
                 return true;
             }
             
@@ -141,17 +144,17 @@ public class EnhancedCalendarTest extends BaseTest {
             
             if (foundByPosition) {
                 logInfo("Found and clicked date field by position");
-                sleep(1000);
+                waitFor(PageConditions.datepickerOpen());
                 return true;
             }
             
             try {
-                List<WebElement> inputs = driver.findElements(By.tagName("input"));
+                List<WebElement> inputs = getDriver().findElements(By.tagName("input"));
                 if (inputs.size() >= 3) {
-                    Actions actions = new Actions(driver);
+                    Actions actions = new Actions(getDriver());
                     actions.moveToElement(inputs.get(2)).click().perform();
                     logInfo("Clicked on potential date field using Actions class");
-                    sleep(1000);
+                    waitFor(PageConditions.datepickerOpen());
                     return true;
                 }
             } catch (Exception e) {
@@ -171,9 +174,9 @@ public class EnhancedCalendarTest extends BaseTest {
     @Step("Select date {day} from calendar")
     private boolean selectDateFromCalendar(int day) {
         try {
-            sleep(1500);
+            waitFor(PageConditions.datepickerOpen());
             
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
             logInfo("Looking for date picker container");
             
@@ -192,16 +195,16 @@ public class EnhancedCalendarTest extends BaseTest {
             
             if (selectedByJS) {
                 logInfo("Selected day " + day + " using JavaScript");
-                sleep(1500);
+                waitFor(PageConditions.datepickerClosed());
                 return true;
             }
             
             try {
                 logInfo("Attempting to find day by XPath");
-                WebElement dayElement = driver.findElement(By.xpath("
+                WebElement dayElement = getDriver().findElement(By.xpath("//td[contains(@class, 'day') and text()='" + day + "']"));
                 dayElement.click();
                 logInfo("Selected day " + day + " using XPath");
-                sleep(1500);
+                waitFor(PageConditions.datepickerClosed());
                 return true;
             } catch (Exception e) {
                 logInfo("Could not find day by XPath: " + e.getMessage());
@@ -209,12 +212,12 @@ public class EnhancedCalendarTest extends BaseTest {
             
             try {
                 logInfo("Attempting to find day by searching all td elements");
-                List<WebElement> allTds = driver.findElements(By.tagName("td"));
+                List<WebElement> allTds = getDriver().findElements(By.tagName("td"));
                 for (WebElement td : allTds) {
                     if (td.getText().trim().equals(String.valueOf(day))) {
                         td.click();
                         logInfo("Selected day " + day + " by searching all td elements");
-                        sleep(1500);
+                        waitFor(PageConditions.datepickerClosed());
                         return true;
                     }
                 }
@@ -246,7 +249,6 @@ public class EnhancedCalendarTest extends BaseTest {
                 
                 if (setDateValue) {
                     logInfo("Set date value directly using JavaScript");
-                    sleep(1500);
                     return true;
                 }
             } catch (Exception e) {
@@ -263,14 +265,6 @@ public class EnhancedCalendarTest extends BaseTest {
         }
     }
     
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
-    
     private void logInfo(String message) {
         System.out.println("[INFO] " + message);
     }
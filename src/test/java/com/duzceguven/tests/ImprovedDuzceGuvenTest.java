@@ -1,5 +1,9 @@
 package com.duzceguven.tests;
 
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -14,8 +18,6 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
-
 /**
  * Improved test class for searching bus journeys on the Düzce Güven website with Allure reporting
  * Focuses on better date selection handling
@@ -38,12 +40,12 @@ public class ImprovedDuzceGuvenTest extends BaseTest {
     
     @Step("Navigate to Düzce Güven website")
     private void navigateToWebsite() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             System.out.println("Closed cookie consent popup");
         } catch (Exception e) {
@@ -55,27 +57,21 @@ public class ImprovedDuzceGuvenTest extends BaseTest {
     
     @Step("Wait for page to load")
     private void waitForPageToLoad() {
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        waitFor(PageConditions.documentReady());
     }
     
     @Step("Select departure location: {location}")
     private void selectDepartureLocation(String location) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement departureField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.departureField")));
             departureField.click();
             departureField.clear();
             departureField.sendKeys(location);
             
-            Thread.sleep(1000);
-            
             WebElement departureOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.dropdownOption", location)));
             departureOption.click();
             System.out.println("Selected departure location: " + location);
         } catch (Exception e) {
@@ -86,17 +82,15 @@ public class ImprovedDuzceGuvenTest extends BaseTest {
     @Step("Select arrival location: {location}")
     private void selectArrivalLocation(String location) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement arrivalField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.arrivalField")));
             arrivalField.click();
             arrivalField.clear();
             arrivalField.sendKeys(location);
             
-            Thread.sleep(1000);
-            
             WebElement arrivalOption = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.format("home.dropdownOption", location)));
             arrivalOption.click();
             System.out.println("Selected arrival location: " + location);
         } catch (Exception e) {
@@ -107,18 +101,16 @@ public class ImprovedDuzceGuvenTest extends BaseTest {
     @Step("Select date: {day}")
     private void selectDate(int day) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement dateField = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.dateField")));
             
-            JavascriptExecutor executor = (JavascriptExecutor) driver;
+            JavascriptExecutor executor = (JavascriptExecutor) getDriver();
             executor.executeScript("arguments[0].click();", dateField);
             System.out.println("Clicked on date field with JavaScript");
             
-            Thread.sleep(2000);
-            
             WebElement datePickerTable = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("
+                    By.xpath("//div[contains(@class, 'datepicker-days')]//table")));
             
             System.out.println("Looking for day: " + day);
             
@@ -138,12 +130,12 @@ public class ImprovedDuzceGuvenTest extends BaseTest {
             } else {
                 System.out.println("Failed to find and click day: " + day + " with JavaScript, trying direct approach");
                 
-                WebElement dayCell = driver.findElement(By.xpath("
+                WebElement dayCell = getDriver().findElement(Locators.format("home.calendarDay", day));
                 dayCell.click();
                 System.out.println("Selected date: " + day + " using direct WebElement click");
             }
             
-            Thread.sleep(1000);
+            waitFor(PageConditions.datepickerClosed());
             
         } catch (Exception e) {
             System.out.println("Could not select date: " + e.getMessage());
@@ -154,13 +146,13 @@ public class ImprovedDuzceGuvenTest extends BaseTest {
     @Step("Click search button and wait for results")
     private void clickSearchButton() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = WaitFactory.get(getDriver(), 10);
             WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.searchButton")));
             searchButton.click();
             System.out.println("Clicked search button");
             
-            Thread.sleep(5000);
+            waitForNetworkIdle();
         } catch (Exception e) {
             System.out.println("Could not click search button: " + e.getMessage());
         }
@@ -1,6 +1,10 @@
 package com.duzceguven.tests;
 
 import com.duzceguven.util.DatePickerUtil;
+import com.duzceguven.utils.Locators;
+import com.duzceguven.utils.PageConditions;
+import com.duzceguven.utils.WaitFactory;
+import com.duzceguven.utils.WaitPolicy;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -8,15 +12,12 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Step;
 import io.qameta.allure.Story;
-import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.Test;
 
-import java.time.Duration;
-
 /**
  * Improved journey search test for the Düzce Güven website
  * Includes robust JavaScript-based methods for location selection and date picking
@@ -36,37 +37,37 @@ public class ImprovedJourneySearchTest extends BaseTest {
         
         selectArrivalLocationJS("Düzce");
         
-        DatePickerUtil.selectDate(driver, 19);
+        DatePickerUtil.selectDate(getDriver(), 19);
         
         clickSearchButtonJS();
         
-        sleep(5000);
+        waitForNetworkIdle();
         
         logInfo("Journey search test completed successfully");
     }
     
     @Step("Navigate to Düzce Güven website")
     private void navigateToWebsite() {
-        driver.get("https:
+        getDriver().get(getBaseUrl());
         logInfo("Navigated to Düzce Güven website");
         
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait wait = WaitFactory.get(getDriver(), WaitPolicy.getAbsenceTimeoutSeconds());
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("
+                    Locators.get("home.cookieAccept")));
             cookieButton.click();
             logInfo("Closed cookie consent popup");
         } catch (Exception e) {
             logInfo("Cookie popup not found or could not be closed: " + e.getMessage());
         }
         
-        sleep(3000);
+        waitFor(PageConditions.documentReady());
     }
     
     @Step("Select departure location: {location} using JavaScript")
     private void selectDepartureLocationJS(String location) {
         try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
             String script = 
                 "var inputs = document.querySelectorAll('input');" +
@@ -86,7 +87,7 @@ public class ImprovedJourneySearchTest extends BaseTest {
             if (departureInput != null) {
                 logInfo("Found and set departure location input with JavaScript: " + location);
                 
-                sleep(2000);
+                waitFor(PageConditions.dropdownOptionRendered(location));
                 
                 String selectScript = 
                     "var options = document.querySelectorAll('li');" +
@@ -126,8 +127,6 @@ public class ImprovedJourneySearchTest extends BaseTest {
                 }
             }
             
-            sleep(1000);
-            
         } catch (Exception e) {
             logInfo("Error selecting departure location: " + e.getMessage());
         }
@@ -136,7 +135,7 @@ public class ImprovedJourneySearchTest extends BaseTest {
     @Step("Select arrival location: {location} using JavaScript")
     private void selectArrivalLocationJS(String location) {
         try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
             String script = 
                 "var inputs = document.querySelectorAll('input');" +
@@ -156,7 +155,7 @@ public class ImprovedJourneySearchTest extends BaseTest {
             if (arrivalInput != null) {
                 logInfo("Found and set arrival location input with JavaScript: " + location);
                 
-                sleep(2000);
+                waitFor(PageConditions.dropdownOptionRendered(location));
                 
                 String selectScript = 
                     "var options = document.querySelectorAll('li');" +
@@ -196,8 +195,6 @@ public class ImprovedJourneySearchTest extends BaseTest {
                 }
             }
             
-            sleep(1000);
-            
         } catch (Exception e) {
             logInfo("Error selecting arrival location: " + e.getMessage());
         }
@@ -206,7 +203,7 @@ public class ImprovedJourneySearchTest extends BaseTest {
     @Step("Click search button using JavaScript")
     private void clickSearchButtonJS() {
         try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
+            JavascriptExecutor js = (JavascriptExecutor) getDriver();
             
             String script = 
                 "var buttons = document.querySelectorAll('button');" +
@@ -245,14 +242,6 @@ public class ImprovedJourneySearchTest extends BaseTest {
         }
     }
     
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
-    
     private void logInfo(String message) {
         System.out.println("[INFO] " + message);
     }
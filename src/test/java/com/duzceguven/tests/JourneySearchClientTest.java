@@ -0,0 +1,91 @@
+package com.duzceguven.tests;
+
+import com.duzceguven.client.JourneySearchClient;
+import com.duzceguven.model.Journey;
+import com.duzceguven.util.FixtureServer;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Test class for the browser-less journey search client, run against the local fixture server
+ */
+public class JourneySearchClientTest {
+
+    private FixtureServer server;
+    private JourneySearchClient client;
+
+    @BeforeClass
+    public void startServer() {
+        server = FixtureServer.start();
+        client = new JourneySearchClient(server.getBaseUrl());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testSearchJourneyFromAnkaraToDuzce() {
+        List<Journey> journeys = client.searchJourney("Ankara", "Düzce", 20, 3, 2025);
+
+        Assert.assertEquals(journeys.size(), 3);
+        Journey first = journeys.get(0);
+        Assert.assertEquals(first.getDeparture(), "ANKARA");
+        Assert.assertEquals(first.getArrival(), "DÜZCE");
+        Assert.assertEquals(first.getDepartureTime(), LocalTime.of(8, 30));
+        Assert.assertEquals(first.getAvailableSeats(), 14);
+        Assert.assertEquals(first.getPrice(), new BigDecimal("450.00"));
+    }
+
+    @Test
+    public void testRouteWithoutJourneys() {
+        Assert.assertFalse(client.hasJourneys("Karabük", "Bolu", 20, 3, 2025));
+    }
+
+    @Test
+    public void testResponseWithoutJourneyListIsNotReadAsNoJourneys() throws IOException {
+        assertSearchFails("{\"sonuc\": []}", "no 'seferler' list");
+    }
+
+    @Test
+    public void testJourneyRowWithMissingFieldIsReported() throws IOException {
+        assertSearchFails("{\"seferler\": [{\"id\": \"ANK-DZC-0830\", \"kalkis\": \"ANKARA\", \"varis\": \"DÜZCE\","
+                + " \"kalkisSaati\": \"08:30\", \"varisSaati\": \"11:45\", \"firma\": \"Düzce Güven\", \"fiyat\": \"450.00\"}]}",
+                "no numeric 'bosKoltuk'");
+    }
+
+    private static void assertSearchFails(String body, String expectedMessage) throws IOException {
+        HttpServer otherSite = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        otherSite.createContext("/", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        otherSite.start();
+        try {
+            JourneySearchClient otherClient = new JourneySearchClient("http://127.0.0.1:" + otherSite.getAddress().getPort());
+            IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                    () -> otherClient.hasJourneys("Ankara", "Düzce", 20, 3, 2025));
+            Assert.assertTrue(error.getMessage().contains(expectedMessage), "Unexpected message: " + error.getMessage());
+        } finally {
+            otherSite.stop(0);
+        }
+    }
+}
@@ -9,22 +9,20 @@ import org.testng.annotations.Test;
  */
 public class LoginTest extends BaseTest {
     
-    private static final String BASE_URL = "https:
-    
     @Test
     public void testSuccessfulLogin() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage();
         
-        loginPage.goToLoginPage(BASE_URL)
+        loginPage.goToLoginPage(getBaseUrl())
                 .login("validUsername", "validPassword");
         
     }
     
     @Test
     public void testInvalidCredentials() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage();
         
-        loginPage.goToLoginPage(BASE_URL)
+        loginPage.goToLoginPage(getBaseUrl())
                 .login("invalidUsername", "invalidPassword");
         
         Assert.assertTrue(loginPage.isErrorMessageDisplayed());
@@ -33,9 +31,9 @@ public class LoginTest extends BaseTest {
     
     @Test
     public void testEmptyCredentials() {
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage();
         
-        loginPage.goToLoginPage(BASE_URL)
+        loginPage.goToLoginPage(getBaseUrl())
                 .login("", "");
         
         Assert.assertTrue(loginPage.isErrorMessageDisplayed());
@@ -0,0 +1,84 @@
+package com.duzceguven.tests;
+
+import com.duzceguven.model.ElementState;
+import com.duzceguven.pages.DuzceGuvenHomePage;
+import com.duzceguven.pages.SearchResultsPage;
+import com.duzceguven.util.RouteMatrix;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches every route of the route matrix, one test invocation per row
+ * The matrix file is set with -Droute.matrix.file (default routes/routes.csv on the classpath);
+ * rows run in parallel on the TestNG data provider thread pool, each thread with its own browser
+ * A row fails unless the form shows its departure, arrival and a date before searching;
+ * on the fixture site the results or the no-results message must also be shown after the search
+ */
+@Epic("Düzce Güven Website Testing")
+@Feature("Journey Search")
+public class RouteMatrixTest extends BaseTest {
+
+    private static final String ROUTE_MATRIX_FILE = System.getProperty("route.matrix.file", "routes/routes.csv");
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+    @DataProvider(name = "routes", parallel = true)
+    public Object[][] routes() {
+        List<RouteMatrix.Route> routes = RouteMatrix.load(ROUTE_MATRIX_FILE);
+        Object[][] data = new Object[routes.size()][];
+        for (int i = 0; i < routes.size(); i++) {
+            RouteMatrix.Route route = routes.get(i);
+            data[i] = new Object[] {route.getDeparture(), route.getArrival(), route.getDate()};
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "routes")
+    @Story("User searches for a journey on each route of the matrix")
+    public void testSearchRoute(String departure, String arrival, LocalDate date) {
+        DuzceGuvenHomePage homePage = new DuzceGuvenHomePage();
+        homePage.goToHomePage();
+
+        long start = System.nanoTime();
+        homePage.selectDepartureLocation(departure)
+                .selectArrivalLocation(arrival)
+                .selectDate(date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+        long formNanos = System.nanoTime() - start;
+
+        Map<String, ElementState> form = homePage.getSearchFormState();
+        assertShows(form.get("departure"), departure);
+        assertShows(form.get("arrival"), arrival);
+        String selectedDate = form.get("date").getAttribute("value");
+        Assert.assertTrue(selectedDate != null && !selectedDate.isEmpty(), "Date not selected: " + form.get("date"));
+
+        start = System.nanoTime();
+        homePage.clickSearchButton();
+        long searchMillis = TimeUnit.NANOSECONDS.toMillis(formNanos + System.nanoTime() - start);
+
+        if (isFixtureSite()) {
+            SearchResultsPage results = homePage.getSearchResults();
+            Assert.assertTrue(results.getJourneyCount() > 0 || results.hasNoResults(),
+                    "Search results were not shown for " + departure + " -> " + arrival + " on " + date);
+        }
+
+        Allure.parameter("searchMillis", searchMillis);
+        Reporter.log(departure + " -> " + arrival + " on " + date + ": search took " + searchMillis + " ms", true);
+    }
+
+    private static void assertShows(ElementState selection, String location) {
+        Assert.assertTrue(selection.getText().toUpperCase(TURKISH).contains(location.toUpperCase(TURKISH)),
+                "Expected '" + location + "' to be selected: " + selection);
+    }
+}
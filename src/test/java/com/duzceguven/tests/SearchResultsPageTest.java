@@ -0,0 +1,38 @@
+package com.duzceguven.tests;
+
+import com.duzceguven.pages.SearchResultsPage;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * Test class for reading the prices shown in the journey search results
+ */
+public class SearchResultsPageTest {
+
+    @DataProvider(name = "prices")
+    public Object[][] prices() {
+        return new Object[][] {
+                {"450.00 TL", "450.00"},
+                {"450,00 TL", "450.00"},
+                {"250,50", "250.50"},
+                {"1.250", "1250"},
+                {"1.250 TL", "1250"},
+                {"1.250,00", "1250.00"},
+                {"1.250,00 TL", "1250.00"},
+                {"1,250.00", "1250.00"}
+        };
+    }
+
+    @Test(dataProvider = "prices")
+    public void testParsePrice(String text, String expected) {
+        Assert.assertEquals(SearchResultsPage.parsePrice(text), new BigDecimal(expected), "Price of '" + text + "'");
+    }
+
+    @Test
+    public void testPriceWithoutDigits() {
+        Assert.assertNull(SearchResultsPage.parsePrice("TL"));
+    }
+}
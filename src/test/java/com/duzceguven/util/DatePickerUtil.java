@@ -4,180 +4,163 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 /**
  * Utility class to handle date picker interactions
  * Provides robust methods to interact with calendar elements on the Düzce Güven website
  */
 public class DatePickerUtil {
-    
+
+    private static final long CALENDAR_OPEN_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Runs every date field and day selection strategy inside the browser in one script execution.
+     * Arguments: day, formatted date for the value fallback, calendar open timeout in milliseconds.
+     * Calls back with the strategies that succeeded, e.g. {field: 'icon', day: 'click'}.
+     */
+    private static final String SELECT_DATE_SCRIPT =
+        "var day = String(arguments[0]);" +
+        "var formattedDate = arguments[1];" +
+        "var openTimeout = arguments[2];" +
+        "var done = arguments[arguments.length - 1];" +
+        "var isVisible = function(e) {" +
+        "  return !!e && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);" +
+        "};" +
+        "var clickDateField = function() {" +
+        "  var icons = document.querySelectorAll('i.fa-calendar, i.fa-calendar-alt, span.calendar-icon');" +
+        "  if (icons.length > 0) {" +
+        "    var icon = icons[0];" +
+        "    var parent = icon.parentElement;" +
+        "    var input = parent.tagName === 'INPUT' ? parent : parent.querySelector('input');" +
+        "    (input || icon).click();" +
+        "    return 'icon';" +
+        "  }" +
+        "  var inputs = document.getElementsByTagName('input');" +
+        "  for (var i = 0; i < inputs.length; i++) {" +
+        "    if (inputs[i].placeholder && inputs[i].placeholder.indexOf('/') > -1) {" +
+        "      inputs[i].click();" +
+        "      return 'placeholder';" +
+        "    }" +
+        "  }" +
+        "  if (inputs.length >= 3) {" +
+        "    inputs[2].click();" +
+        "    return 'position';" +
+        "  }" +
+        "  return null;" +
+        "};" +
+        "var isCalendarOpen = function() {" +
+        "  var pickers = document.querySelectorAll('.datepicker-days, .datepicker');" +
+        "  for (var i = 0; i < pickers.length; i++) {" +
+        "    if (isVisible(pickers[i])) { return true; }" +
+        "  }" +
+        "  return false;" +
+        "};" +
+        "var waitForCalendar = function() {" +
+        "  return new Promise(function(resolve) {" +
+        "    if (isCalendarOpen()) { resolve(true); return; }" +
+        "    var observer = new MutationObserver(function() {" +
+        "      if (isCalendarOpen()) { observer.disconnect(); clearTimeout(timer); resolve(true); }" +
+        "    });" +
+        "    var timer = setTimeout(function() { observer.disconnect(); resolve(false); }, openTimeout);" +
+        "    observer.observe(document.body, { childList: true, subtree: true, attributes: true, attributeFilter: ['style', 'class'] });" +
+        "  });" +
+        "};" +
+        "var clickDay = function() {" +
+        "  var dayElements = document.querySelectorAll('.datepicker-days td.day, .datepicker td.day, td.day');" +
+        "  for (var i = 0; i < dayElements.length; i++) {" +
+        "    var cell = dayElements[i];" +
+        "    if (cell.textContent.trim() === day && !/\\b(old|new|disabled)\\b/.test(cell.className)) {" +
+        "      cell.click();" +
+        "      return true;" +
+        "    }" +
+        "  }" +
+        "  return false;" +
+        "};" +
+        "var setValue = function() {" +
+        "  if (!formattedDate) { return false; }" +
+        "  var inputs = document.querySelectorAll('input');" +
+        "  for (var i = 0; i < inputs.length; i++) {" +
+        "    if (inputs[i].placeholder && inputs[i].placeholder.indexOf('/') > -1 || " +
+        "        inputs[i].className.indexOf('datepicker') > -1 || " +
+        "        i === 2) {" +
+        "      inputs[i].value = formattedDate;" +
+        "      inputs[i].dispatchEvent(new Event('change', { 'bubbles': true }));" +
+        "      return true;" +
+        "    }" +
+        "  }" +
+        "  return false;" +
+        "};" +
+        "var field = clickDateField();" +
+        "if (!field) { done({ field: null, day: null }); return; }" +
+        "waitForCalendar().then(function(open) {" +
+        "  if (open && clickDay()) { done({ field: field, day: 'click' }); return; }" +
+        "  done({ field: field, day: setValue() ? 'value' : null });" +
+        "});";
+
     /**
      * Selects a date from the calendar on the Düzce Güven website
      * Uses multiple strategies to ensure reliable date selection
-     * 
+     *
      * @param driver WebDriver instance
      * @param day Day of the month to select
      * @return true if date selection was successful, false otherwise
      */
     public static boolean selectDate(WebDriver driver, int day) {
-        try {
-            if (!clickDateField(driver)) {
-                System.out.println("Failed to click on date field");
-                return false;
-            }
-            
-            sleep(1500);
-            
-            return selectDayFromCalendar(driver, day);
-        } catch (Exception e) {
-            System.out.println("Error in selectDate: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
-    }
-    
-    /**
-     * Clicks on the date field to open the calendar
-     * 
-     * @param driver WebDriver instance
-     * @return true if click was successful, false otherwise
-     */
-    private static boolean clickDateField(WebDriver driver) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            
-            Boolean foundByIcon = (Boolean) js.executeScript(
-                "var icons = document.querySelectorAll('i.fa-calendar, i.fa-calendar-alt, span.calendar-icon');" +
-                "if(icons.length > 0) {" +
-                "  var icon = icons[0];" +
-                "  var parent = icon.parentElement;" +
-                "  if(parent.tagName === 'INPUT') {" +
-                "    parent.click();" +
-                "    return true;" +
-                "  } else {" +
-                "    var input = parent.querySelector('input');" +
-                "    if(input) {" +
-                "      input.click();" +
-                "      return true;" +
-                "    } else {" +
-                "      icon.click();" +
-                "      return true;" +
-                "    }" +
-                "  }" +
-                "}" +
-                "return false;");
-            
-            if (foundByIcon) {
-                System.out.println("Found and clicked date field by calendar icon");
-                return true;
-            }
-            
-            Boolean foundByPlaceholder = (Boolean) js.executeScript(
-                "var inputs = document.getElementsByTagName('input');" +
-                "for(var i=0; i<inputs.length; i++) {" +
-                "  if(inputs[i].placeholder && inputs[i].placeholder.indexOf('/') > -1) {" +
-                "    inputs[i].click();" +
-                "    return true;" +
-                "  }" +
-                "}" +
-                "return false;");
-            
-            if (foundByPlaceholder) {
-                System.out.println("Found and clicked date field by placeholder");
-                return true;
-            }
-            
-            Boolean foundByPosition = (Boolean) js.executeScript(
-                "var inputs = document.getElementsByTagName('input');" +
-                "if(inputs.length >= 3) {" +
-                "  inputs[2].click();" +
-                "  return true;" +
-                "}" +
-                "return false;");
-            
-            if (foundByPosition) {
-                System.out.println("Found and clicked date field by position");
-                return true;
-            }
-            
-            System.out.println("Could not find date field using any strategy");
-            return false;
-        } catch (Exception e) {
-            System.out.println("Error in clickDateField: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+        return selectDateWithStrategy(driver, day) != null;
     }
-    
+
     /**
-     * Selects a specific day from the open calendar
-     * 
+     * Selects a date from the calendar in a single script execution.
+     * The date field is located by calendar icon, placeholder or position, the script waits
+     * for the calendar to open inside the browser, then clicks the day or sets the value directly.
+     *
      * @param driver WebDriver instance
      * @param day Day of the month to select
-     * @return true if day selection was successful, false otherwise
+     * @return Strategies that succeeded as "field/day" (e.g. "icon/click", "position/value"), or null if selection failed
      */
-    private static boolean selectDayFromCalendar(WebDriver driver, int day) {
+    public static String selectDateWithStrategy(WebDriver driver, int day) {
         try {
+            String formattedDate = formatDayOfCurrentMonth(day);
+
             JavascriptExecutor js = (JavascriptExecutor) driver;
-            
-            Boolean selectedByJS = (Boolean) js.executeScript(
-                "var dayElements = document.querySelectorAll('.datepicker-days td.day, .datepicker td.day, td.day');" +
-                "for(var i=0; i<dayElements.length; i++) {" +
-                "  if(dayElements[i].textContent.trim() === '" + day + "') {" +
-                "    dayElements[i].click();" +
-                "    return true;" +
-                "  }" +
-                "}" +
-                "return false;");
-            
-            if (selectedByJS) {
-                System.out.println("Selected day " + day + " using JavaScript");
-                return true;
+            @SuppressWarnings("unchecked")
+            Map<String, Object> result = (Map<String, Object>) js.executeAsyncScript(
+                SELECT_DATE_SCRIPT, day, formattedDate, CALENDAR_OPEN_TIMEOUT_MILLIS);
+
+            Object field = result.get("field");
+            Object dayStrategy = result.get("day");
+
+            if (field == null) {
+                System.out.println("Could not find date field using any strategy");
+                return null;
             }
-            
-            LocalDate now = LocalDate.now();
-            LocalDate date = LocalDate.of(now.getYear(), now.getMonth(), day);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-            String formattedDate = date.format(formatter);
-            
-            Boolean setDateValue = (Boolean) js.executeScript(
-                "var inputs = document.querySelectorAll('input');" +
-                "for(var i=0; i<inputs.length; i++) {" +
-                "  if(inputs[i].placeholder && inputs[i].placeholder.indexOf('/') > -1 || " +
-                "     inputs[i].className.indexOf('datepicker') > -1 || " +
-                "     i === 2) {" +
-                "    inputs[i].value = '" + formattedDate + "';" +
-                "    var event = new Event('change', { 'bubbles': true });" +
-                "    inputs[i].dispatchEvent(event);" +
-                "    return true;" +
-                "  }" +
-                "}" +
-                "return false;");
-            
-            if (setDateValue) {
-                System.out.println("Set date value directly to " + formattedDate);
-                return true;
+            if (dayStrategy == null) {
+                System.out.println("Clicked date field by " + field + " but could not select day " + day + " using any strategy");
+                return null;
             }
-            
-            System.out.println("Could not select day " + day + " using any strategy");
-            return false;
+
+            String strategy = field + "/" + dayStrategy;
+            System.out.println("Selected day " + day + " (date field by " + field + ", day by " + dayStrategy + ")");
+            return strategy;
         } catch (Exception e) {
-            System.out.println("Error in selectDayFromCalendar: " + e.getMessage());
+            System.out.println("Error in selectDate: " + e.getMessage());
             e.printStackTrace();
-            return false;
+            return null;
         }
     }
-    
+
     /**
-     * Helper method to pause execution
-     * 
-     * @param millis Time to sleep in milliseconds
+     * Formats a day of the current month for the input fallback strategy
+     *
+     * @param day Day of the month
+     * @return Date as dd/MM/yyyy, or null if the current month has no such day
      */
-    private static void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+    private static String formatDayOfCurrentMonth(int day) {
+        LocalDate today = LocalDate.now();
+        if (day < 1 || day > today.lengthOfMonth()) {
+            return null;
         }
+        return today.withDayOfMonth(day).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
     }
 }
@@ -0,0 +1,133 @@
+package com.duzceguven.util;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders test methods longest-first by their recorded durations and optionally keeps only one shard of them
+ * Durations are the medians of the last {@code shard.history.runs} runs (default 10) of the {@link TimingHistory};
+ * methods without history are assumed to take the median of the known ones, or {@code shard.default.millis}
+ * (default 1000) when there is no history at all.
+ * With {@code -Dshard.count=N -Dshard.index=I} (0-based) only the methods of shard I run. The methods of the history
+ * are split into N shards once for the whole suite with the longest-processing-time-first rule, and methods without
+ * history go to a shard picked by a stable hash of their name. The split is read from {@link TimingHistory#forShardSplit()},
+ * which no shard run appends to, so N JVMs each run a disjoint part of the suite without talking to each other,
+ * even when some of them start after others have finished, and they finish at about the same time.
+ */
+public class DurationOrderInterceptor implements IMethodInterceptor {
+
+    private static final long DEFAULT_MILLIS = Long.getLong("shard.default.millis", 1000);
+
+    private Map<String, Long> history;
+    private Map<String, Integer> assignments;
+
+    @Override
+    public synchronized List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = Integer.getInteger("shard.count", 1);
+        if (history == null) {
+            history = readHistory();
+            assignments = assignShards(history, Math.max(1, shardCount));
+        }
+        long unknownMillis = getDefaultMillis(history);
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance method) -> expectedMillis(method, history, unknownMillis))
+                .reversed()
+                .thenComparing(DurationOrderInterceptor::getKey));
+
+        if (shardCount <= 1) {
+            return ordered;
+        }
+        int shardIndex = Integer.getInteger("shard.index", 0);
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (shardCount - 1) + ": " + shardIndex);
+        }
+
+        long[] shardMillis = new long[shardCount];
+        List<IMethodInstance> shard = new ArrayList<>();
+        for (IMethodInstance method : ordered) {
+            int target = getShard(getKey(method), assignments, shardCount);
+            shardMillis[target] += expectedMillis(method, history, unknownMillis);
+            if (target == shardIndex) {
+                shard.add(method);
+            }
+        }
+
+        System.out.printf("Shard %d/%d of '%s': %d of %d methods, expected %d ms (shards: %s ms)%n",
+                shardIndex + 1, shardCount, context.getName(), shard.size(), ordered.size(),
+                shardMillis[shardIndex], Arrays.toString(shardMillis));
+        return shard;
+    }
+
+    /**
+     * Reads the expected test durations the shards are split by
+     *
+     * @return Median duration in milliseconds per test key over the last {@code shard.history.runs} runs
+     */
+    public static Map<String, Long> readHistory() {
+        return TimingHistory.forShardSplit().getMedianTestDurations(Integer.getInteger("shard.history.runs", 10));
+    }
+
+    /**
+     * Splits the methods of a timing history into shards with the longest-processing-time-first rule
+     * The result only depends on the history, so every JVM reading the same history gets the same split.
+     *
+     * @param history Expected duration in milliseconds per test key
+     * @param shardCount Number of shards
+     * @return Shard index per test key
+     */
+    public static Map<String, Integer> assignShards(Map<String, Long> history, int shardCount) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(history.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        long[] shardMillis = new long[shardCount];
+        Map<String, Integer> assignments = new HashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            int target = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (shardMillis[i] < shardMillis[target]) {
+                    target = i;
+                }
+            }
+            shardMillis[target] += entry.getValue();
+            assignments.put(entry.getKey(), target);
+        }
+        return assignments;
+    }
+
+    /**
+     * Gets the shard a test runs in
+     *
+     * @param key Test key as written by {@link TimingHistoryListener}
+     * @param assignments Shards of the methods with history, from {@link #assignShards(Map, int)}
+     * @param shardCount Number of shards
+     * @return Assigned shard, or a shard picked by a stable hash of the key for methods without history
+     */
+    public static int getShard(String key, Map<String, Integer> assignments, int shardCount) {
+        Integer assigned = assignments.get(key);
+        return assigned != null ? assigned : Math.floorMod(key.hashCode(), shardCount);
+    }
+
+    private static long expectedMillis(IMethodInstance method, Map<String, Long> history, long unknownMillis) {
+        return history.getOrDefault(getKey(method), unknownMillis);
+    }
+
+    private static String getKey(IMethodInstance method) {
+        ITestNGMethod testMethod = method.getMethod();
+        return TimingHistoryListener.getTestKey(testMethod.getTestClass().getName(), testMethod.getMethodName());
+    }
+
+    private static long getDefaultMillis(Map<String, Long> history) {
+        return history.isEmpty() ? DEFAULT_MILLIS : Math.max(1, TimingHistory.percentile(new ArrayList<>(history.values()), 50));
+    }
+}
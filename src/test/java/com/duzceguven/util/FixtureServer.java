@@ -0,0 +1,187 @@
+package com.duzceguven.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Local HTTP server that serves a stand-in of the Düzce Güven site from src/test/resources/fixtures
+ * The pages use the same markup, class names and widgets (Select2, bootstrap datepicker) as the live site,
+ * so tests can run against it without network access and with stable timings
+ */
+public class FixtureServer {
+
+    private static final String FIXTURES = "/fixtures";
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+    private static final Json JSON = new Json();
+
+    private final HttpServer server;
+    private final List<Map<String, Object>> journeys;
+
+    private FixtureServer(HttpServer server) {
+        this.server = server;
+        this.journeys = JSON.toType(readResource(FIXTURES + "/search-results.json"), Json.LIST_OF_MAPS_TYPE);
+    }
+
+    /**
+     * Starts the server on a free port of the loopback interface
+     *
+     * @return Running server
+     */
+    public static FixtureServer start() {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            FixtureServer fixtureServer = new FixtureServer(httpServer);
+
+            httpServer.createContext("/", fixtureServer::handlePage);
+            httpServer.createContext("/assets/", fixtureServer::handleAsset);
+            httpServer.createContext("/api/sefer-ara", fixtureServer::handleSearch);
+            httpServer.setExecutor(Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "fixture-server");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            httpServer.start();
+
+            System.out.println("Fixture server started at " + fixtureServer.getBaseUrl());
+            return fixtureServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start fixture server", e);
+        }
+    }
+
+    /**
+     * Gets the base URL of the server, without a trailing slash
+     *
+     * @return Base URL, e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Stops the server
+     */
+    public void stop() {
+        server.stop(0);
+        System.out.println("Fixture server stopped");
+    }
+
+    private void handlePage(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if ("/".equals(path)) {
+            sendResource(exchange, FIXTURES + "/home.html");
+        } else if ("/login".equals(path)) {
+            sendResource(exchange, FIXTURES + "/login.html");
+        } else {
+            send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void handleAsset(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.contains("..")) {
+            send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        sendResource(exchange, FIXTURES + path);
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String departure = query.getOrDefault("kalkis", "");
+        String arrival = query.getOrDefault("varis", "");
+
+        List<Map<String, Object>> matches = journeys.stream()
+                .filter(journey -> matchesLocation(journey.get("kalkis"), departure))
+                .filter(journey -> matchesLocation(journey.get("varis"), arrival))
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("kalkis", departure);
+        response.put("varis", arrival);
+        response.put("tarih", query.getOrDefault("tarih", ""));
+        response.put("seferler", matches);
+
+        send(exchange, 200, "application/json; charset=utf-8", JSON.toJson(response).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean matchesLocation(Object value, String location) {
+        return !location.isEmpty()
+                && String.valueOf(value).toUpperCase(TURKISH).equals(location.toUpperCase(TURKISH));
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private void sendResource(HttpExchange exchange, String resource) throws IOException {
+        try (InputStream in = FixtureServer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, getContentType(resource), in.readAllBytes());
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String getContentType(String resource) {
+        if (resource.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        } else if (resource.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        } else if (resource.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        } else if (resource.endsWith(".json")) {
+            return "application/json; charset=utf-8";
+        }
+        return "application/octet-stream";
+    }
+
+    private static String readResource(String resource) {
+        try (InputStream in = FixtureServer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture resource not found: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture resource " + resource, e);
+        }
+    }
+}
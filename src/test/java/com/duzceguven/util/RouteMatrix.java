@@ -0,0 +1,130 @@
+package com.duzceguven.util;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the routes to search from a CSV or JSON file
+ * CSV rows are "departure,arrival,date" with an optional header; lines starting with # are comments.
+ * JSON files hold an array of objects with departure, arrival and date fields.
+ * Dates are dd/MM/yyyy, or +N for N days from today so nightly runs always search future dates.
+ */
+public class RouteMatrix {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String HEADER = "departure,arrival,date";
+
+    private RouteMatrix() {
+    }
+
+    /**
+     * Loads routes from a file path, or from the classpath if no such file exists
+     *
+     * @param location File path or classpath resource, e.g. "routes/routes.csv"
+     * @return Routes in file order
+     */
+    public static List<Route> load(String location) {
+        String content = read(location);
+        List<Route> routes = location.endsWith(".json") ? parseJson(content) : parseCsv(content);
+        if (routes.isEmpty()) {
+            throw new IllegalStateException("Route matrix " + location + " has no routes");
+        }
+        return Collections.unmodifiableList(routes);
+    }
+
+    private static List<Route> parseCsv(String content) {
+        List<Route> routes = new ArrayList<>();
+        String[] lines = content.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith("#") || line.equalsIgnoreCase(HEADER)) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            if (columns.length != 3) {
+                throw new IllegalArgumentException("Route matrix line " + (i + 1) + " must be " + HEADER + ": " + line);
+            }
+            routes.add(new Route(columns[0].trim(), columns[1].trim(), parseDate(columns[2].trim())));
+        }
+        return routes;
+    }
+
+    private static List<Route> parseJson(String content) {
+        List<Route> routes = new ArrayList<>();
+        List<Map<String, Object>> rows = new Json().toType(content, Json.LIST_OF_MAPS_TYPE);
+        for (Map<String, Object> row : rows) {
+            routes.add(new Route(String.valueOf(row.get("departure")), String.valueOf(row.get("arrival")),
+                    parseDate(String.valueOf(row.get("date")))));
+        }
+        return routes;
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value.startsWith("+")) {
+            return LocalDate.now().plusDays(Long.parseLong(value.substring(1)));
+        }
+        return LocalDate.parse(value, DATE_FORMAT);
+    }
+
+    private static String read(String location) {
+        try {
+            Path file = Paths.get(location);
+            if (Files.isRegularFile(file)) {
+                return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            }
+            try (InputStream in = RouteMatrix.class.getClassLoader().getResourceAsStream(location)) {
+                if (in == null) {
+                    throw new IllegalStateException("Route matrix not found as file or classpath resource: " + location);
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read route matrix " + location, e);
+        }
+    }
+
+    /**
+     * One route of the matrix
+     */
+    public static final class Route {
+        private final String departure;
+        private final String arrival;
+        private final LocalDate date;
+
+        public Route(String departure, String arrival, LocalDate date) {
+            this.departure = departure;
+            this.arrival = arrival;
+            this.date = date;
+        }
+
+        public String getDeparture() {
+            return departure;
+        }
+
+        public String getArrival() {
+            return arrival;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public String toString() {
+            return departure + " -> " + arrival + " on " + date.format(DATE_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.duzceguven.util;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file of test and step durations, one JSON line per suite run
+ * The file is set with {@code timing.history.file} (default timing-history.jsonl in the working directory)
+ * and is meant to be kept between runs, e.g. cached by the CI agent.
+ */
+public class TimingHistory {
+
+    private static final Json JSON = new Json();
+
+    private final Path file;
+
+    public TimingHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets the history file selected with the {@code timing.history.file} system property
+     *
+     * @return TimingHistory instance
+     */
+    public static TimingHistory fromSystemProperty() {
+        return new TimingHistory(Paths.get(System.getProperty("timing.history.file", "timing-history.jsonl")));
+    }
+
+    /**
+     * Gets the history the shards of a sharded run are split by
+     * {@code shard.history.file} pins a snapshot that is only read; without it the {@code timing.history.file}
+     * is read, which shard runs do not append to (see {@link #forRecording()}).
+     *
+     * @return TimingHistory instance
+     */
+    public static TimingHistory forShardSplit() {
+        String snapshot = System.getProperty("shard.history.file");
+        return snapshot != null ? new TimingHistory(Paths.get(snapshot)) : fromSystemProperty();
+    }
+
+    /**
+     * Gets the history the current run is appended to
+     * With {@code shard.count} above 1 each shard writes to its own file next to the history,
+     * e.g. timing-history.shard-0.jsonl, so the history the shards are split by does not change
+     * while other shards have yet to start. The shard files can be merged into the history after all shards finished.
+     *
+     * @return TimingHistory instance
+     */
+    public static TimingHistory forRecording() {
+        TimingHistory history = fromSystemProperty();
+        if (Integer.getInteger("shard.count", 1) <= 1) {
+            return history;
+        }
+        String name = history.file.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        String shard = ".shard-" + Integer.getInteger("shard.index", 0);
+        String shardName = extension > 0 ? name.substring(0, extension) + shard + name.substring(extension) : name + shard;
+        return new TimingHistory(history.file.resolveSibling(shardName));
+    }
+
+    /**
+     * Appends one run to the history
+     *
+     * @param suite Name of the suite
+     * @param tests Durations in milliseconds per test, keyed by class and method name
+     * @param steps Durations in milliseconds per Allure step name
+     */
+    public void append(String suite, Map<String, List<Long>> tests, Map<String, List<Long>> steps) {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("run", Instant.now().toString());
+        run.put("suite", suite);
+        run.put("tests", tests);
+        run.put("steps", steps);
+
+        StringBuilder line = new StringBuilder();
+        JSON.newOutput(line).setPrettyPrint(false).write(run).close();
+        line.append(System.lineSeparator());
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, line.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to timing history " + file, e);
+        }
+    }
+
+    /**
+     * Reads all runs, oldest first
+     *
+     * @return Runs of the history, empty if the file does not exist
+     */
+    public List<Run> load() {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyList();
+        }
+        try {
+            List<Run> runs = new ArrayList<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.trim().isEmpty()) {
+                    Map<String, Object> run = JSON.toType(line, Json.MAP_TYPE);
+                    runs.add(new Run(String.valueOf(run.get("run")), toDurations(run.get("tests")), toDurations(run.get("steps"))));
+                }
+            }
+            return runs;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read timing history " + file, e);
+        }
+    }
+
+    /**
+     * Gets the median time each test took per run over the last runs of the history
+     * The time of a run is the sum of all invocations of the test, so data-driven tests count in full.
+     *
+     * @param lastRuns Number of most recent runs to use
+     * @return Median duration in milliseconds per test
+     */
+    public Map<String, Long> getMedianTestDurations(int lastRuns) {
+        List<Run> runs = load();
+        Map<String, List<Long>> totals = new HashMap<>();
+        for (Run run : runs.subList(Math.max(0, runs.size() - lastRuns), runs.size())) {
+            run.getTests().forEach((test, durations) -> totals.computeIfAbsent(test, key -> new ArrayList<>())
+                    .add(durations.stream().mapToLong(Long::longValue).sum()));
+        }
+
+        Map<String, Long> medians = new HashMap<>();
+        totals.forEach((test, durations) -> medians.put(test, percentile(durations, 50)));
+        return medians;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Computes a percentile with the nearest-rank method
+     *
+     * @param values Values, in any order
+     * @param percentile Percentile between 0 and 100
+     * @return Value at the percentile, 0 if there are no values
+     */
+    public static long percentile(List<Long> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.min(sorted.size() - 1, Math.max(0, rank - 1)));
+    }
+
+    private static Map<String, List<Long>> toDurations(Object value) {
+        Map<String, List<Long>> durations = new LinkedHashMap<>();
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                List<Long> millis = new ArrayList<>();
+                for (Object duration : (List<?>) entry.getValue()) {
+                    millis.add(((Number) duration).longValue());
+                }
+                durations.put(String.valueOf(entry.getKey()), millis);
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * One suite run of the history
+     */
+    public static final class Run {
+        private final String timestamp;
+        private final Map<String, List<Long>> tests;
+        private final Map<String, List<Long>> steps;
+
+        private Run(String timestamp, Map<String, List<Long>> tests, Map<String, List<Long>> steps) {
+            this.timestamp = timestamp;
+            this.tests = tests;
+            this.steps = steps;
+        }
+
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        public Map<String, List<Long>> getTests() {
+            return tests;
+        }
+
+        public Map<String, List<Long>> getSteps() {
+            return steps;
+        }
+    }
+}
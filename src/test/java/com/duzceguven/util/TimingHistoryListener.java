@@ -0,0 +1,88 @@
+package com.duzceguven.util;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the duration of every test method and Allure step and appends them to the {@link TimingHistory}
+ * when the suite finishes, then prints the {@link TimingRegressionReport}
+ * Shard runs append to a file of their own, see {@link TimingHistory#forRecording()}.
+ * Registered as a TestNG listener in the suite files and as an Allure step listener
+ * in META-INF/services/io.qameta.allure.listener.StepLifecycleListener.
+ */
+public class TimingHistoryListener implements ITestListener, ISuiteListener, StepLifecycleListener {
+
+    private static final Map<String, List<Long>> TEST_DURATIONS = new ConcurrentHashMap<>();
+    private static final Map<String, List<Long>> STEP_DURATIONS = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        if (result.getStart() != null && result.getStop() != null) {
+            add(STEP_DURATIONS, result.getName(), result.getStop() - result.getStart());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (TEST_DURATIONS.isEmpty()) {
+            return;
+        }
+        TimingHistory history = TimingHistory.forRecording();
+        history.append(suite.getName(), snapshot(TEST_DURATIONS), snapshot(STEP_DURATIONS));
+        TEST_DURATIONS.clear();
+        STEP_DURATIONS.clear();
+
+        TimingRegressionReport.fromSystemProperties(history).print();
+    }
+
+    /**
+     * Gets the key a test method is recorded under
+     *
+     * @param className Fully qualified class name
+     * @param methodName Method name
+     * @return Key in the timing history
+     */
+    public static String getTestKey(String className, String methodName) {
+        return className + "." + methodName;
+    }
+
+    private void record(ITestResult result) {
+        String key = getTestKey(result.getTestClass().getName(), result.getMethod().getMethodName());
+        add(TEST_DURATIONS, key, result.getEndMillis() - result.getStartMillis());
+    }
+
+    private static void add(Map<String, List<Long>> durations, String key, long millis) {
+        durations.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(millis);
+    }
+
+    private static Map<String, List<Long>> snapshot(Map<String, List<Long>> durations) {
+        Map<String, List<Long>> copy = new TreeMap<>();
+        durations.forEach((key, millis) -> {
+            synchronized (millis) {
+                copy.put(key, new ArrayList<>(millis));
+            }
+        });
+        return copy;
+    }
+}
@@ -0,0 +1,132 @@
+package com.duzceguven.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the latest run of the {@link TimingHistory} with the runs before it
+ * A test or step is flagged when its p50 or p95 in the latest run exceeds the same percentile over the
+ * previous {@code timing.regression.runs} runs (default 10) by more than {@code timing.regression.threshold}
+ * (default 0.2, i.e. 20%) and by at least {@code timing.regression.min.millis} (default 250 ms).
+ * The report is printed and written to {@code timing.regression.report.file} (default target/timing-regressions.txt).
+ * It can also be generated outside a test run: java -cp ... com.duzceguven.util.TimingRegressionReport
+ */
+public class TimingRegressionReport {
+
+    private final TimingHistory history;
+    private final int baselineRuns;
+    private final double threshold;
+    private final long minMillis;
+    private final Path reportFile;
+
+    public TimingRegressionReport(TimingHistory history, int baselineRuns, double threshold, long minMillis, Path reportFile) {
+        this.history = history;
+        this.baselineRuns = baselineRuns;
+        this.threshold = threshold;
+        this.minMillis = minMillis;
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * Creates the report with the settings of the timing.regression.* system properties
+     *
+     * @param history Timing history to analyse
+     * @return TimingRegressionReport instance
+     */
+    public static TimingRegressionReport fromSystemProperties(TimingHistory history) {
+        return new TimingRegressionReport(history,
+                Integer.getInteger("timing.regression.runs", 10),
+                Double.parseDouble(System.getProperty("timing.regression.threshold", "0.2")),
+                Long.getLong("timing.regression.min.millis", 250),
+                Paths.get(System.getProperty("timing.regression.report.file", "target/timing-regressions.txt")));
+    }
+
+    public static void main(String[] args) {
+        TimingRegressionReport report = fromSystemProperties(TimingHistory.fromSystemProperty());
+        if (!report.print().isEmpty() && Boolean.getBoolean("timing.regression.fail")) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Finds the regressions, prints the report and writes it to the report file
+     *
+     * @return Regression lines, empty if nothing regressed
+     */
+    public List<String> print() {
+        List<TimingHistory.Run> runs = history.load();
+        List<String> regressions = new ArrayList<>();
+        StringBuilder report = new StringBuilder();
+
+        if (runs.size() < 2) {
+            report.append("Timing history ").append(history.getFile()).append(" has ").append(runs.size())
+                    .append(" run(s), at least 2 are needed for a regression report").append(System.lineSeparator());
+        } else {
+            TimingHistory.Run latest = runs.get(runs.size() - 1);
+            List<TimingHistory.Run> baseline = runs.subList(Math.max(0, runs.size() - 1 - baselineRuns), runs.size() - 1);
+
+            regressions.addAll(compare("test", latest.getTests(), collect(baseline, true)));
+            regressions.addAll(compare("step", latest.getSteps(), collect(baseline, false)));
+
+            report.append(String.format("Timing regressions of run %s against the previous %d run(s), threshold %.0f%%:%n",
+                    latest.getTimestamp(), baseline.size(), threshold * 100));
+            if (regressions.isEmpty()) {
+                report.append("  none").append(System.lineSeparator());
+            }
+            for (String regression : regressions) {
+                report.append("  ").append(regression).append(System.lineSeparator());
+            }
+        }
+
+        System.out.print(report);
+        write(report.toString());
+        return regressions;
+    }
+
+    private List<String> compare(String kind, Map<String, List<Long>> latest, Map<String, List<Long>> baseline) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> entry : new TreeMap<>(latest).entrySet()) {
+            List<Long> previous = baseline.get(entry.getKey());
+            if (previous == null || previous.isEmpty()) {
+                continue;
+            }
+            for (int percentile : new int[] {50, 95}) {
+                long before = TimingHistory.percentile(previous, percentile);
+                long now = TimingHistory.percentile(entry.getValue(), percentile);
+                if (now - before >= minMillis && now > before * (1 + threshold)) {
+                    regressions.add(String.format("%s %s p%d: %d ms -> %d ms (+%.0f%%)",
+                            kind, entry.getKey(), percentile, before, now, (now - before) * 100.0 / Math.max(1, before)));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, List<Long>> collect(List<TimingHistory.Run> runs, boolean tests) {
+        Map<String, List<Long>> samples = new TreeMap<>();
+        for (TimingHistory.Run run : runs) {
+            (tests ? run.getTests() : run.getSteps()).forEach((key, durations) ->
+                    samples.computeIfAbsent(key, k -> new ArrayList<>()).addAll(durations));
+        }
+        return samples;
+    }
+
+    private void write(String report) {
+        try {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            Files.write(reportFile, report.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write timing regression report " + reportFile, e);
+        }
+    }
+}
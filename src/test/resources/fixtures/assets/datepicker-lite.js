@@ -0,0 +1,127 @@
+/*
+ * Minimal stand-in for the bootstrap datepicker used on the live site.
+ * Renders .datepicker > .datepicker-days with th.prev / th.datepicker-switch / th.next
+ * and td.day cells (old/new for days of the neighbouring months), Turkish month names,
+ * and writes the picked date to the input as dd/mm/yyyy.
+ */
+(function () {
+    var MONTHS = ['Ocak', 'Şubat', 'Mart', 'Nisan', 'Mayıs', 'Haziran',
+        'Temmuz', 'Ağustos', 'Eylül', 'Ekim', 'Kasım', 'Aralık'];
+    var WEEK_DAYS = ['Pt', 'Sa', 'Ça', 'Pe', 'Cu', 'Ct', 'Pz'];
+
+    function pad(value) {
+        return value < 10 ? '0' + value : String(value);
+    }
+
+    function parse(value) {
+        var parts = /^(\d{2})\/(\d{2})\/(\d{4})$/.exec(value || '');
+        return parts ? new Date(+parts[3], +parts[2] - 1, +parts[1]) : null;
+    }
+
+    function attach(input) {
+        var picker = document.createElement('div');
+        picker.className = 'datepicker dropdown-menu';
+        picker.style.display = 'none';
+
+        var days = document.createElement('div');
+        days.className = 'datepicker-days';
+        picker.appendChild(days);
+        document.body.appendChild(picker);
+
+        var viewYear;
+        var viewMonth;
+
+        function render() {
+            var html = '<table class="table-condensed"><thead><tr>' +
+                '<th class="prev">&laquo;</th>' +
+                '<th colspan="5" class="datepicker-switch">' + MONTHS[viewMonth] + ' ' + viewYear + '</th>' +
+                '<th class="next">&raquo;</th></tr><tr>';
+            for (var w = 0; w < WEEK_DAYS.length; w++) {
+                html += '<th class="dow">' + WEEK_DAYS[w] + '</th>';
+            }
+            html += '</tr></thead><tbody>';
+
+            var first = new Date(viewYear, viewMonth, 1);
+            var offset = (first.getDay() + 6) % 7;
+            var cursor = new Date(viewYear, viewMonth, 1 - offset);
+            var selected = parse(input.value);
+            for (var row = 0; row < 6; row++) {
+                html += '<tr>';
+                for (var col = 0; col < 7; col++) {
+                    var classes = 'day';
+                    if (cursor.getMonth() !== viewMonth) {
+                        classes += cursor < first ? ' old' : ' new';
+                    }
+                    if (selected && cursor.getTime() === selected.getTime()) {
+                        classes += ' active';
+                    }
+                    html += '<td class="' + classes + '" data-date="' + pad(cursor.getDate()) + '/' +
+                        pad(cursor.getMonth() + 1) + '/' + cursor.getFullYear() + '">' + cursor.getDate() + '</td>';
+                    cursor.setDate(cursor.getDate() + 1);
+                }
+                html += '</tr>';
+            }
+            days.innerHTML = html + '</tbody></table>';
+        }
+
+        function move(delta) {
+            var target = new Date(viewYear, viewMonth + delta, 1);
+            viewYear = target.getFullYear();
+            viewMonth = target.getMonth();
+            render();
+        }
+
+        function show() {
+            if (picker.style.display === 'block') {
+                return;
+            }
+            var start = parse(input.value) || new Date();
+            viewYear = start.getFullYear();
+            viewMonth = start.getMonth();
+            render();
+            var rect = input.getBoundingClientRect();
+            picker.style.top = (rect.bottom + window.scrollY) + 'px';
+            picker.style.left = (rect.left + window.scrollX) + 'px';
+            picker.style.display = 'block';
+        }
+
+        function hide() {
+            picker.style.display = 'none';
+        }
+
+        input.addEventListener('focus', show);
+        input.addEventListener('click', show);
+        var addon = input.parentNode.querySelector('.input-group-addon');
+        if (addon) {
+            addon.addEventListener('click', function () {
+                input.focus();
+                show();
+            });
+        }
+
+        picker.addEventListener('click', function (event) {
+            var target = event.target;
+            if (target.classList.contains('prev')) {
+                move(-1);
+            } else if (target.classList.contains('next')) {
+                move(1);
+            } else if (target.classList.contains('day')) {
+                input.value = target.getAttribute('data-date');
+                input.dispatchEvent(new Event('change', { bubbles: true }));
+                hide();
+            }
+            event.stopPropagation();
+        });
+
+        document.addEventListener('click', function (event) {
+            if (event.target !== input && !input.parentNode.contains(event.target)) {
+                hide();
+            }
+        });
+    }
+
+    var inputs = document.querySelectorAll('input.datepicker');
+    for (var i = 0; i < inputs.length; i++) {
+        attach(inputs[i]);
+    }
+})();
@@ -0,0 +1,130 @@
+/*
+ * Minimal stand-in for the Select2 widget used on the live site.
+ * Renders the same class names and ids (select2-<id>-container, select2-results__option, ...)
+ * around every select.select2 and keeps the underlying select in sync.
+ */
+(function () {
+    function randomId() {
+        return Math.random().toString(36).substring(2, 6) + '-' + Math.floor(Math.random() * 9000 + 1000);
+    }
+
+    function normalize(text) {
+        return text.toLocaleUpperCase('tr-TR');
+    }
+
+    function enhance(select) {
+        var id = select.id;
+        var suffix = randomId();
+        var placeholder = select.getAttribute('data-placeholder') || '';
+
+        var container = document.createElement('span');
+        container.className = 'select2 select2-container select2-container--default';
+
+        var selection = document.createElement('span');
+        selection.className = 'select2-selection select2-selection--single';
+        selection.setAttribute('role', 'combobox');
+
+        var rendered = document.createElement('span');
+        rendered.className = 'select2-selection__rendered';
+        rendered.id = 'select2-' + id + '-container';
+
+        var search = document.createElement('input');
+        search.className = 'select2-search__field';
+        search.type = 'search';
+        search.placeholder = placeholder;
+        search.autocomplete = 'off';
+
+        var dropdown = document.createElement('span');
+        dropdown.className = 'select2-dropdown';
+        dropdown.style.display = 'none';
+
+        var results = document.createElement('ul');
+        results.className = 'select2-results__options';
+        results.id = 'select2-' + id + '-results';
+        results.setAttribute('role', 'listbox');
+
+        selection.appendChild(rendered);
+        selection.appendChild(search);
+        dropdown.appendChild(results);
+        container.appendChild(selection);
+        container.appendChild(dropdown);
+
+        select.style.display = 'none';
+        select.parentNode.insertBefore(container, select.nextSibling);
+
+        function renderSelection() {
+            var option = select.options[select.selectedIndex];
+            var text = option && option.value ? option.text : '';
+            rendered.textContent = text || placeholder;
+            rendered.title = text;
+            container.classList.toggle('select2-container--has-value', !!text);
+        }
+
+        function renderResults(filter) {
+            results.innerHTML = '';
+            for (var i = 0; i < select.options.length; i++) {
+                var option = select.options[i];
+                if (!option.value) {
+                    continue;
+                }
+                if (filter && normalize(option.text).indexOf(normalize(filter)) === -1) {
+                    continue;
+                }
+                var item = document.createElement('li');
+                item.className = 'select2-results__option';
+                item.id = 'select2-' + id + '-result-' + suffix + '-' + option.value;
+                item.setAttribute('role', 'option');
+                item.setAttribute('aria-selected', option.selected ? 'true' : 'false');
+                item.setAttribute('data-value', option.value);
+                item.textContent = option.text;
+                results.appendChild(item);
+            }
+            if (!results.children.length) {
+                var empty = document.createElement('li');
+                empty.className = 'select2-results__option select2-results__message';
+                empty.textContent = 'Sonuç bulunamadı';
+                results.appendChild(empty);
+            }
+        }
+
+        function open() {
+            renderResults(search.value);
+            dropdown.style.display = 'block';
+            container.classList.add('select2-container--open');
+        }
+
+        function close() {
+            dropdown.style.display = 'none';
+            container.classList.remove('select2-container--open');
+        }
+
+        selection.addEventListener('click', function () {
+            open();
+            search.focus();
+        });
+        search.addEventListener('input', open);
+        results.addEventListener('click', function (event) {
+            var item = event.target.closest('li[data-value]');
+            if (!item) {
+                return;
+            }
+            select.value = item.getAttribute('data-value');
+            select.dispatchEvent(new Event('change', { bubbles: true }));
+            search.value = '';
+            close();
+        });
+        document.addEventListener('click', function (event) {
+            if (!container.contains(event.target)) {
+                close();
+            }
+        });
+        select.addEventListener('change', renderSelection);
+
+        renderSelection();
+    }
+
+    var selects = document.querySelectorAll('select.select2');
+    for (var i = 0; i < selects.length; i++) {
+        enhance(selects[i]);
+    }
+})();
@@ -0,0 +1,62 @@
+/*
+ * Page behaviour of the stand-in home page: cookie banner and journey search.
+ * The search form posts nothing; it calls /api/sefer-ara and renders the journeys into .search-results.
+ */
+(function () {
+    var COOKIE_KEY = 'cookie-consent';
+
+    var banner = document.getElementById('cookie-consent');
+    if (banner && localStorage.getItem(COOKIE_KEY) !== 'accepted') {
+        banner.style.display = 'block';
+        document.getElementById('cookie-accept').addEventListener('click', function () {
+            localStorage.setItem(COOKIE_KEY, 'accepted');
+            banner.style.display = 'none';
+        });
+    }
+
+    var form = document.getElementById('journey-search');
+    var results = document.querySelector('.search-results');
+    if (!form || !results) {
+        return;
+    }
+
+    function cell(className, text) {
+        var span = document.createElement('span');
+        span.className = className;
+        span.textContent = text;
+        return span;
+    }
+
+    function render(response) {
+        results.innerHTML = '';
+        var journeys = response.seferler || [];
+        if (!journeys.length) {
+            results.appendChild(cell('no-results', 'Uygun sefer bulunamadı'));
+        }
+        for (var i = 0; i < journeys.length; i++) {
+            var journey = journeys[i];
+            var row = document.createElement('div');
+            row.className = 'journey-row';
+            row.setAttribute('data-journey-id', journey.id);
+            row.appendChild(cell('departure-time', journey.kalkisSaati));
+            row.appendChild(cell('arrival-time', journey.varisSaati));
+            row.appendChild(cell('route', journey.kalkis + ' - ' + journey.varis));
+            row.appendChild(cell('operator', journey.firma));
+            row.appendChild(cell('seats', journey.bosKoltuk + ' boş koltuk'));
+            row.appendChild(cell('price', journey.fiyat + ' TL'));
+            results.appendChild(row);
+        }
+        results.style.display = 'block';
+    }
+
+    form.addEventListener('submit', function (event) {
+        event.preventDefault();
+        var query = new URLSearchParams(new FormData(form)).toString();
+        fetch(form.getAttribute('action') + '?' + query, { headers: { 'Accept': 'application/json' } })
+            .then(function (response) { return response.json(); })
+            .then(render)
+            .catch(function () {
+                render({ seferler: [] });
+            });
+    });
+})();